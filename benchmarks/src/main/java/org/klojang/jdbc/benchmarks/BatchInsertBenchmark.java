@@ -0,0 +1,81 @@
+package org.klojang.jdbc.benchmarks;
+
+import org.klojang.jdbc.BatchInsert;
+import org.klojang.jdbc.SQL;
+import org.klojang.jdbc.SQLInsert;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.jdbc.benchmarks.Database.*;
+
+/**
+ * Measures the cost of persisting {@link Database#ROWS} JavaBeans using
+ * {@link BatchInsert#insertBatch(List)} and {@link SQLInsert#insertBatch(List)},
+ * compared to a hand-written JDBC batch. The table is truncated before every invocation
+ * (outside the measured region).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(ROWS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchInsertBenchmark {
+
+  private Connection con;
+  private SQL sql;
+  private BatchInsert<Person> batchInsert;
+  private List<Person> persons;
+
+  @Setup
+  public void setup() throws SQLException {
+    con = Database.open("batch");
+    sql = SQL.simple(INSERT);
+    batchInsert = SQL.insertBatch().of(Person.class).into("PERSON").prepare(con);
+    persons = Database.persons();
+  }
+
+  @Setup(Level.Invocation)
+  public void truncate() throws SQLException {
+    Database.truncate(con);
+  }
+
+  @TearDown
+  public void tearDown() throws SQLException {
+    con.close();
+  }
+
+  @Benchmark
+  public int[] jdbcBaseline() throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement(JDBC_INSERT)) {
+      for (Person p : persons) {
+        ps.setInt(1, p.getPersonId());
+        ps.setString(2, p.getFirstName());
+        ps.setString(3, p.getLastName());
+        ps.setObject(4, p.getBirthDate());
+        ps.setDouble(5, p.getScore());
+        ps.addBatch();
+      }
+      return ps.executeBatch();
+    }
+  }
+
+  @Benchmark
+  public void batchInsert() {
+    batchInsert.insertBatch(persons);
+  }
+
+  @Benchmark
+  public void sqlInsertBatch() {
+    try (SQLInsert insert = sql.session(con).prepareInsert(false)) {
+      insert.insertBatch(persons);
+    }
+  }
+
+}
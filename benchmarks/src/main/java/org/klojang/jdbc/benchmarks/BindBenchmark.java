@@ -0,0 +1,119 @@
+package org.klojang.jdbc.benchmarks;
+
+import org.klojang.jdbc.SQL;
+import org.klojang.jdbc.SQLUpdate;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.jdbc.benchmarks.Database.ROWS;
+
+/**
+ * Measures the cost of binding JavaBeans, records and maps to the named parameters of a
+ * prepared statement, compared to explicitly calling the {@code PreparedStatement}
+ * setters. Each invocation binds and executes {@link Database#ROWS} single-row UPDATE
+ * statements against the same {@code SQLUpdate} (or {@code PreparedStatement}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(ROWS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BindBenchmark {
+
+  private static final String UPDATE = """
+        UPDATE PERSON
+           SET FIRST_NAME = :firstName,
+               LAST_NAME = :lastName,
+               BIRTH_DATE = :birthDate,
+               SCORE = :score
+         WHERE PERSON_ID = :personId
+        """;
+
+  private static final String JDBC_UPDATE = """
+        UPDATE PERSON
+           SET FIRST_NAME = ?,
+               LAST_NAME = ?,
+               BIRTH_DATE = ?,
+               SCORE = ?
+         WHERE PERSON_ID = ?
+        """;
+
+  private Connection con;
+  private SQL sql;
+  private List<Person> persons;
+  private List<PersonRecord> records;
+  private List<Map<String, Object>> maps;
+
+  @Setup
+  public void setup() throws SQLException {
+    con = Database.open("bind");
+    Database.populate(con);
+    sql = SQL.simple(UPDATE);
+    persons = Database.persons();
+    records = Database.records();
+    maps = Database.maps();
+  }
+
+  @TearDown
+  public void tearDown() throws SQLException {
+    con.close();
+  }
+
+  @Benchmark
+  public int jdbcBaseline() throws SQLException {
+    int count = 0;
+    try (PreparedStatement ps = con.prepareStatement(JDBC_UPDATE)) {
+      for (Person p : persons) {
+        ps.setString(1, p.getFirstName());
+        ps.setString(2, p.getLastName());
+        ps.setObject(3, p.getBirthDate());
+        ps.setDouble(4, p.getScore());
+        ps.setInt(5, p.getPersonId());
+        count += ps.executeUpdate();
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int bindBean() {
+    int count = 0;
+    try (SQLUpdate update = sql.session(con).prepareUpdate()) {
+      for (Person p : persons) {
+        count += update.bind(p).execute();
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int bindRecord() {
+    int count = 0;
+    try (SQLUpdate update = sql.session(con).prepareUpdate()) {
+      for (PersonRecord r : records) {
+        count += update.bind(r).execute();
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int bindMap() {
+    int count = 0;
+    try (SQLUpdate update = sql.session(con).prepareUpdate()) {
+      for (Map<String, Object> m : maps) {
+        count += update.bind(m).execute();
+      }
+    }
+    return count;
+  }
+
+}
@@ -0,0 +1,118 @@
+package org.klojang.jdbc.benchmarks;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates and populates the in-memory H2 database used by the benchmarks. Every call to
+ * {@link #open(String)} yields a connection to a fresh, private database, so benchmarks
+ * running in the same JVM do not interfere with one another.
+ */
+final class Database {
+
+  /**
+   * The number of rows read or written per benchmark invocation. Benchmarks are annotated
+   * with {@code @OperationsPerInvocation(ROWS)}, so all scores (including the
+   * {@code gc.alloc.rate.norm} figures produced by {@code -prof gc}) are per row.
+   */
+  static final int ROWS = 1000;
+
+  static final String CREATE_TABLE = """
+        CREATE TABLE PERSON(
+          PERSON_ID INT,
+          FIRST_NAME VARCHAR(255),
+          LAST_NAME VARCHAR(255),
+          BIRTH_DATE DATE,
+          SCORE DOUBLE)
+        """;
+
+  static final String SELECT = """
+        SELECT PERSON_ID, FIRST_NAME, LAST_NAME, BIRTH_DATE, SCORE
+          FROM PERSON
+         ORDER BY PERSON_ID
+        """;
+
+  static final String INSERT = """
+        INSERT INTO PERSON(PERSON_ID, FIRST_NAME, LAST_NAME, BIRTH_DATE, SCORE)
+        VALUES(:personId, :firstName, :lastName, :birthDate, :score)
+        """;
+
+  static final String JDBC_INSERT = """
+        INSERT INTO PERSON(PERSON_ID, FIRST_NAME, LAST_NAME, BIRTH_DATE, SCORE)
+        VALUES(?, ?, ?, ?, ?)
+        """;
+
+  private static final LocalDate EPOCH = LocalDate.of(1970, 1, 1);
+
+  private Database() { throw new UnsupportedOperationException(); }
+
+  static Connection open(String name) throws SQLException {
+    String url = "jdbc:h2:mem:" + name + System.nanoTime() + ";DB_CLOSE_DELAY=-1";
+    Connection con = DriverManager.getConnection(url);
+    try (Statement stmt = con.createStatement()) {
+      stmt.executeUpdate(CREATE_TABLE);
+    }
+    return con;
+  }
+
+  static void populate(Connection con) throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement(JDBC_INSERT)) {
+      for (Person p : persons()) {
+        ps.setInt(1, p.getPersonId());
+        ps.setString(2, p.getFirstName());
+        ps.setString(3, p.getLastName());
+        ps.setObject(4, p.getBirthDate());
+        ps.setDouble(5, p.getScore());
+        ps.addBatch();
+      }
+      ps.executeBatch();
+    }
+  }
+
+  static void truncate(Connection con) throws SQLException {
+    try (Statement stmt = con.createStatement()) {
+      stmt.executeUpdate("TRUNCATE TABLE PERSON");
+    }
+  }
+
+  static List<Person> persons() {
+    List<Person> persons = new ArrayList<>(ROWS);
+    for (int i = 0; i < ROWS; ++i) {
+      persons.add(new Person(i,
+            "John" + i,
+            "Smith" + i,
+            EPOCH.plusDays(i),
+            i * .5));
+    }
+    return persons;
+  }
+
+  static List<PersonRecord> records() {
+    return persons().stream().map(p -> new PersonRecord(p.getPersonId(),
+          p.getFirstName(),
+          p.getLastName(),
+          p.getBirthDate(),
+          p.getScore())).toList();
+  }
+
+  static List<Map<String, Object>> maps() {
+    return persons().stream().map(p -> {
+      Map<String, Object> map = HashMap.newHashMap(5);
+      map.put("personId", p.getPersonId());
+      map.put("firstName", p.getFirstName());
+      map.put("lastName", p.getLastName());
+      map.put("birthDate", p.getBirthDate());
+      map.put("score", p.getScore());
+      return map;
+    }).toList();
+  }
+
+}
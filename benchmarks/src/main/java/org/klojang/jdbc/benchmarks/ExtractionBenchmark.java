@@ -0,0 +1,97 @@
+package org.klojang.jdbc.benchmarks;
+
+import org.klojang.jdbc.SQL;
+import org.klojang.jdbc.SQLQuery;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.jdbc.benchmarks.Database.ROWS;
+import static org.klojang.jdbc.benchmarks.Database.SELECT;
+
+/**
+ * Measures the cost of converting {@code ResultSet} rows into JavaBeans, records and
+ * maps, compared to a hand-written JDBC loop. The {@link SQL} instance is created once,
+ * so the extractor factories are warm and the benchmarks measure the steady-state cost
+ * of executing the query and converting the rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(ROWS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExtractionBenchmark {
+
+  private Connection con;
+  private SQL sql;
+
+  @Setup
+  public void setup() throws SQLException {
+    con = Database.open("extraction");
+    Database.populate(con);
+    sql = SQL.simple(SELECT);
+  }
+
+  @TearDown
+  public void tearDown() throws SQLException {
+    con.close();
+  }
+
+  @Benchmark
+  public List<Person> jdbcBaseline() throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement(SELECT)) {
+      try (ResultSet rs = ps.executeQuery()) {
+        List<Person> persons = new ArrayList<>(ROWS);
+        while (rs.next()) {
+          Person person = new Person();
+          person.setPersonId(rs.getInt(1));
+          person.setFirstName(rs.getString(2));
+          person.setLastName(rs.getString(3));
+          person.setBirthDate(rs.getObject(4, LocalDate.class));
+          person.setScore(rs.getDouble(5));
+          persons.add(person);
+        }
+        return persons;
+      }
+    }
+  }
+
+  @Benchmark
+  public List<Person> beanExtractor() {
+    try (SQLQuery query = sql.session(con).prepareQuery()) {
+      return query.getExtractor(Person.class).extractAll(ROWS);
+    }
+  }
+
+  @Benchmark
+  public List<Person> beanExtractorWithSupplier() {
+    try (SQLQuery query = sql.session(con).prepareQuery()) {
+      return query.getExtractor(Person.class, Person::new).extractAll(ROWS);
+    }
+  }
+
+  @Benchmark
+  public List<PersonRecord> recordExtractor() {
+    try (SQLQuery query = sql.session(con).prepareQuery()) {
+      return query.getExtractor(PersonRecord.class).extractAll(ROWS);
+    }
+  }
+
+  @Benchmark
+  public List<Map<String, Object>> mapExtractor() {
+    try (SQLQuery query = sql.session(con).prepareQuery()) {
+      return query.getExtractor().extractAll(ROWS);
+    }
+  }
+
+}
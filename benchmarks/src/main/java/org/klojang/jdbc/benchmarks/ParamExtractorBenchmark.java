@@ -0,0 +1,44 @@
+package org.klojang.jdbc.benchmarks;
+
+import org.klojang.jdbc.x.sql.ParamExtractor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of parsing named parameters out of SQL. {@code ParamExtractor}
+ * lives in a package that is not exported by the {@code org.klojang.jdbc} module. The
+ * benchmarks run from the class path, so the package is nevertheless accessible.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParamExtractorBenchmark {
+
+  private static final String LONG_SQL = """
+        SELECT A.PERSON_ID, A.FIRST_NAME, A.LAST_NAME, B.STREET, B.CITY
+          FROM PERSON A
+          JOIN ADDRESS B ON (A.PERSON_ID = B.PERSON_ID)
+         WHERE A.LAST_NAME = :lastName
+           AND (A.FIRST_NAME LIKE :firstName OR A.NICK_NAME LIKE :firstName)
+           AND A.BIRTH_DATE BETWEEN :from AND :to
+           AND B.CITY = :city
+           AND B.COMMENT <> 'Not a :parameter'
+         ORDER BY A.LAST_NAME, A.FIRST_NAME
+         LIMIT :limit OFFSET :offset
+        """;
+
+  @Benchmark
+  public ParamExtractor parseInsert() {
+    return new ParamExtractor(Database.INSERT);
+  }
+
+  @Benchmark
+  public ParamExtractor parseQuery() {
+    return new ParamExtractor(LONG_SQL);
+  }
+
+}
@@ -0,0 +1,70 @@
+package org.klojang.jdbc.benchmarks;
+
+import java.time.LocalDate;
+
+/**
+ * The JavaBean populated and persisted by the benchmarks.
+ */
+public class Person {
+
+  private int personId;
+  private String firstName;
+  private String lastName;
+  private LocalDate birthDate;
+  private double score;
+
+  public Person() { }
+
+  public Person(int personId,
+        String firstName,
+        String lastName,
+        LocalDate birthDate,
+        double score) {
+    this.personId = personId;
+    this.firstName = firstName;
+    this.lastName = lastName;
+    this.birthDate = birthDate;
+    this.score = score;
+  }
+
+  public int getPersonId() {
+    return personId;
+  }
+
+  public void setPersonId(int personId) {
+    this.personId = personId;
+  }
+
+  public String getFirstName() {
+    return firstName;
+  }
+
+  public void setFirstName(String firstName) {
+    this.firstName = firstName;
+  }
+
+  public String getLastName() {
+    return lastName;
+  }
+
+  public void setLastName(String lastName) {
+    this.lastName = lastName;
+  }
+
+  public LocalDate getBirthDate() {
+    return birthDate;
+  }
+
+  public void setBirthDate(LocalDate birthDate) {
+    this.birthDate = birthDate;
+  }
+
+  public double getScore() {
+    return score;
+  }
+
+  public void setScore(double score) {
+    this.score = score;
+  }
+
+}
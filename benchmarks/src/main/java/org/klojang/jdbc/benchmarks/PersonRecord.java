@@ -0,0 +1,13 @@
+package org.klojang.jdbc.benchmarks;
+
+import java.time.LocalDate;
+
+/**
+ * The {@code record} counterpart of {@link Person}.
+ */
+public record PersonRecord(
+      int personId,
+      String firstName,
+      String lastName,
+      LocalDate birthDate,
+      double score) { }
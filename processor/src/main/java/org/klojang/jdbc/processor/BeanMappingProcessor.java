@@ -0,0 +1,327 @@
+package org.klojang.jdbc.processor;
+
+import org.klojang.jdbc.BeanMapping;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.klojang.jdbc.processor.SourceUtils.literal;
+
+/**
+ * Generates a {@link org.klojang.jdbc.BeanMapper BeanMapper} for each JavaBean or record
+ * type annotated with {@link BeanMapping @BeanMapping}. The mapper accesses the
+ * properties of the type through direct method calls. Problems that would otherwise
+ * only surface at runtime (an inaccessible type, a missing no-arg constructor, a type
+ * without any accessible properties) are reported as compilation errors.
+ */
+@SupportedAnnotationTypes("org.klojang.jdbc.BeanMapping")
+public final class BeanMappingProcessor extends AbstractProcessor {
+
+  // Must match the suffix with which Klojang JDBC looks up the generated class
+  private static final String SUFFIX = "_BeanMapper";
+
+  // A property of the bean: its name, its (erased) type, and the method used to access it
+  private record Property(String name, TypeMirror type, String method) { }
+
+  public BeanMappingProcessor() { }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment env) {
+    for (Element element : env.getElementsAnnotatedWith(BeanMapping.class)) {
+      if (element instanceof TypeElement type) {
+        process(type);
+      }
+    }
+    return true;
+  }
+
+  private void process(TypeElement type) {
+    if (type.getKind() != ElementKind.CLASS && type.getKind() != ElementKind.RECORD) {
+      error(type, "@BeanMapping only applies to JavaBeans and records");
+      return;
+    }
+    for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+      if (e.getModifiers().contains(Modifier.PRIVATE)) {
+        error(type, "@BeanMapping type must not be private");
+        return;
+      }
+    }
+    if (type.getNestingKind().isNested()
+          && !type.getModifiers().contains(Modifier.STATIC)
+          && type.getKind() == ElementKind.CLASS) {
+      error(type, "@BeanMapping type must not be an inner class");
+      return;
+    }
+    try {
+      if (type.getKind() == ElementKind.RECORD) {
+        generateRecordMapper(type);
+      } else if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+        error(type, "@BeanMapping type must not be abstract");
+      } else if (!hasNoArgConstructor(type)) {
+        error(type, "@BeanMapping type must have a non-private no-arg constructor");
+      } else {
+        generateBeanMapper(type);
+      }
+    } catch (IOException e) {
+      error(type, "failed to generate BeanMapper: " + e);
+    }
+  }
+
+  private void generateRecordMapper(TypeElement type) throws IOException {
+    List<Property> components = new ArrayList<>();
+    for (RecordComponentElement rce : type.getRecordComponents()) {
+      components.add(new Property(rce.getSimpleName().toString(),
+            erasure(rce.asType()),
+            rce.getAccessor().getSimpleName().toString()));
+    }
+    StringBuilder sb = header(type, components, components);
+    String bean = type.getQualifiedName().toString();
+    sb.append("  @Override\n")
+          .append("  public ").append(bean).append(" newRecord(Object[] values) {\n")
+          .append("    return new ").append(bean).append('(');
+    for (int i = 0; i < components.size(); ++i) {
+      sb.append(i == 0 ? "\n          " : ",\n          ")
+            .append(cast(components.get(i).type(), "values[" + i + "]"));
+    }
+    sb.append(");\n  }\n\n");
+    appendGet(sb, bean, components);
+    write(type, sb);
+  }
+
+  private void generateBeanMapper(TypeElement type) throws IOException {
+    PackageElement pkg = packageOf(type);
+    Map<String, Property> setters = new LinkedHashMap<>();
+    Map<String, Property> getters = new LinkedHashMap<>();
+    DeclaredType declared = (DeclaredType) type.asType();
+    for (ExecutableElement m : ElementFilter.methodsIn(elements().getAllMembers(type))) {
+      if (!isAccessible(m, pkg)) {
+        continue;
+      }
+      // Resolve the type parameters of generic superclasses as seen from the bean class,
+      // e.g. setId(T) inherited from Base<Integer> takes an Integer
+      ExecutableType resolved = (ExecutableType) types().asMemberOf(declared, m);
+      String name = m.getSimpleName().toString();
+      int params = resolved.getParameterTypes().size();
+      TypeMirror ret = resolved.getReturnType();
+      if (params == 1 && name.length() > 3 && name.startsWith("set")) {
+        setters.putIfAbsent(property(name, 3),
+              new Property(property(name, 3),
+                    erasure(resolved.getParameterTypes().get(0)),
+                    name));
+      } else if (params == 0 && ret.getKind() != TypeKind.VOID) {
+        if (name.length() > 3 && name.startsWith("get") && !name.equals("getClass")) {
+          getters.putIfAbsent(property(name, 3),
+                new Property(property(name, 3), erasure(ret), name));
+        } else if (name.length() > 2
+              && name.startsWith("is")
+              && ret.getKind() == TypeKind.BOOLEAN) {
+          getters.putIfAbsent(property(name, 2),
+                new Property(property(name, 2), ret, name));
+        }
+      }
+    }
+    if (setters.isEmpty() && getters.isEmpty()) {
+      error(type, "@BeanMapping type has no accessible getters or setters");
+      return;
+    }
+    List<Property> writable = List.copyOf(setters.values());
+    List<Property> readable = List.copyOf(getters.values());
+    StringBuilder sb = header(type, writable, readable);
+    String bean = type.getQualifiedName().toString();
+    sb.append("  @Override\n")
+          .append("  public ").append(bean).append(" newInstance() {\n")
+          .append("    return new ").append(bean).append("();\n")
+          .append("  }\n\n");
+    sb.append("  @Override\n")
+          .append("  public void set(").append(bean)
+          .append(" bean, int property, Object value) {\n")
+          .append("    switch (property) {\n");
+    for (int i = 0; i < writable.size(); ++i) {
+      Property p = writable.get(i);
+      sb.append("      case ").append(i).append(" -> bean.").append(p.method())
+            .append('(').append(cast(p.type(), "value")).append(");\n");
+    }
+    sb.append("      default -> throw new IndexOutOfBoundsException(property);\n")
+          .append("    }\n")
+          .append("  }\n\n");
+    appendGet(sb, bean, readable);
+    write(type, sb);
+  }
+
+  private StringBuilder header(TypeElement type,
+        List<Property> writable,
+        List<Property> readable) {
+    PackageElement pkg = packageOf(type);
+    String bean = type.getQualifiedName().toString();
+    String simpleName = generatedSimpleName(type);
+    StringBuilder sb = new StringBuilder(2048);
+    if (!pkg.isUnnamed()) {
+      sb.append("package ").append(pkg.getQualifiedName()).append(";\n\n");
+    }
+    sb.append("// Generated by ")
+          .append(getClass().getName())
+          .append(" from the @BeanMapping annotation on ")
+          .append(bean)
+          .append(". Do not edit.\n")
+          .append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+          .append("final class ").append(simpleName)
+          .append(" extends org.klojang.jdbc.BeanMapper<").append(bean).append("> {\n\n")
+          .append("  static {\n")
+          .append("    register(new ").append(simpleName).append("());\n")
+          .append("  }\n\n")
+          .append("  private ").append(simpleName).append("() {\n")
+          .append("    super(").append(bean).append(".class,\n");
+    appendNames(sb, writable);
+    sb.append(",\n");
+    appendTypes(sb, writable);
+    sb.append(",\n");
+    appendNames(sb, readable);
+    sb.append(",\n");
+    appendTypes(sb, readable);
+    sb.append(");\n  }\n\n");
+    return sb;
+  }
+
+  private static void appendNames(StringBuilder sb, List<Property> properties) {
+    sb.append("          new String[] {");
+    for (int i = 0; i < properties.size(); ++i) {
+      sb.append(i == 0 ? "" : ", ").append(literal(properties.get(i).name()));
+    }
+    sb.append('}');
+  }
+
+  private static void appendTypes(StringBuilder sb, List<Property> properties) {
+    sb.append("          new Class<?>[] {");
+    for (int i = 0; i < properties.size(); ++i) {
+      sb.append(i == 0 ? "" : ", ").append(properties.get(i).type()).append(".class");
+    }
+    sb.append('}');
+  }
+
+  private static void appendGet(StringBuilder sb,
+        String bean,
+        List<Property> readable) {
+    sb.append("  @Override\n")
+          .append("  public Object get(").append(bean).append(" bean, int property) {\n")
+          .append("    return switch (property) {\n");
+    for (int i = 0; i < readable.size(); ++i) {
+      sb.append("      case ").append(i).append(" -> bean.")
+            .append(readable.get(i).method()).append("();\n");
+    }
+    sb.append("      default -> throw new IndexOutOfBoundsException(property);\n")
+          .append("    };\n")
+          .append("  }\n\n")
+          .append("}\n");
+  }
+
+  // Casts an Object to the specified type. For primitive types null becomes the
+  // type's default value.
+  private static String cast(TypeMirror type, String expr) {
+    return switch (type.getKind()) {
+      case BOOLEAN -> primitiveCast(type, expr, "false");
+      case CHAR -> primitiveCast(type, expr, "'\\0'");
+      case BYTE -> primitiveCast(type, expr, "(byte) 0");
+      case SHORT -> primitiveCast(type, expr, "(short) 0");
+      case INT -> primitiveCast(type, expr, "0");
+      case LONG -> primitiveCast(type, expr, "0L");
+      case FLOAT -> primitiveCast(type, expr, "0F");
+      case DOUBLE -> primitiveCast(type, expr, "0D");
+      default -> "(" + type + ") " + expr;
+    };
+  }
+
+  private static String primitiveCast(TypeMirror type, String expr, String dflt) {
+    return "(" + type + ") (" + expr + " == null ? " + dflt + " : " + expr + ")";
+  }
+
+  private boolean hasNoArgConstructor(TypeElement type) {
+    for (ExecutableElement c : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+      if (c.getParameters().isEmpty() && !c.getModifiers().contains(Modifier.PRIVATE)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // The generated mapper lives in the same package as the bean
+  private boolean isAccessible(ExecutableElement m, PackageElement pkg) {
+    Set<Modifier> mods = m.getModifiers();
+    if (mods.contains(Modifier.STATIC) || mods.contains(Modifier.PRIVATE)) {
+      return false;
+    }
+    if (mods.contains(Modifier.PUBLIC)) {
+      return true;
+    }
+    return packageOf((TypeElement) m.getEnclosingElement()).equals(pkg);
+  }
+
+  private static String property(String method, int prefixLength) {
+    return Character.toLowerCase(method.charAt(prefixLength))
+          + method.substring(prefixLength + 1);
+  }
+
+  private TypeMirror erasure(TypeMirror type) {
+    return types().erasure(type);
+  }
+
+  private String generatedSimpleName(TypeElement type) {
+    String binaryName = elements().getBinaryName(type).toString();
+    return binaryName.substring(binaryName.lastIndexOf('.') + 1) + SUFFIX;
+  }
+
+  private void write(TypeElement type, StringBuilder sb) throws IOException {
+    String binaryName = elements().getBinaryName(type).toString();
+    JavaFileObject file = processingEnv.getFiler()
+          .createSourceFile(binaryName + SUFFIX, type);
+    try (Writer writer = file.openWriter()) {
+      writer.write(sb.toString());
+    }
+  }
+
+  private Elements elements() {
+    return processingEnv.getElementUtils();
+  }
+
+  private Types types() {
+    return processingEnv.getTypeUtils();
+  }
+
+  private PackageElement packageOf(TypeElement type) {
+    return elements().getPackageOf(type);
+  }
+
+  private void error(Element element, String message) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+  }
+
+}
@@ -0,0 +1,104 @@
+package org.klojang.jdbc.processor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Extracts the named parameters from a SQL file and replaces them with positional
+ * parameters (question marks). A copy of the parsing logic in Klojang JDBC's (internal,
+ * non-exported) ParamExtractor class, which the generated code must agree with. It only
+ * depends on the JDK, so the processor does not need the library's internals at compile
+ * time.
+ */
+final class SQLParser {
+
+  record Parameter(String name, int[] positions) { }
+
+  private static final char QUOTE = '\'';
+  private static final char COLON = ':';
+  private static final char BACKSLASH = '\\';
+
+  private final String normalized;
+  private final List<Parameter> params;
+
+  SQLParser(String sql) {
+    final var normalized = new StringBuilder(sql.length());
+    final var positions = new LinkedHashMap<String, List<Integer>>();
+    final var name = new StringBuilder(); // parameter name
+    int counter = 0; // parameter counter (JDBC parameters are 1-based)
+    int position = -1; // parameter start position
+    boolean insideString = false;
+    boolean escaped = false;
+    for (int i = 0; i < sql.length(); ++i) {
+      char c = sql.charAt(i);
+      if (insideString) {
+        normalized.append(c);
+        if (c == QUOTE) {
+          if (!escaped) {
+            insideString = false;
+          }
+        } else if (c == BACKSLASH) {
+          escaped = true;
+        } else {
+          escaped = false;
+        }
+      } else if (position != -1) { // we are assembling a parameter name
+        if (isParamChar(c)) {
+          name.append(c);
+          if (i == sql.length() - 1) {
+            addParam(name, position, positions, ++counter);
+          }
+        } else {
+          addParam(name, position, positions, ++counter);
+          normalized.append(c);
+          if (c == QUOTE) {
+            insideString = true;
+          } else if (c == COLON) {
+            throw new IllegalArgumentException("adjacent parameters at positions "
+                  + position + " and " + i + " cannot yield valid SQL");
+          }
+          position = -1;
+        }
+      } else if (c == COLON) {
+        normalized.append('?');
+        position = i;
+        name.setLength(0);
+      } else {
+        normalized.append(c);
+        if (c == QUOTE) {
+          insideString = true;
+        }
+      }
+    }
+    this.normalized = normalized.toString();
+    this.params = new ArrayList<>(positions.size());
+    positions.forEach((k, v) -> params.add(new Parameter(k,
+          v.stream().mapToInt(Integer::intValue).toArray())));
+  }
+
+  String getNormalizedSQL() {
+    return normalized;
+  }
+
+  List<Parameter> getParameters() {
+    return params;
+  }
+
+  private static boolean isParamChar(char c) {
+    return Character.isLetterOrDigit(c) || c == '_';
+  }
+
+  private static void addParam(StringBuilder name,
+        int position,
+        Map<String, List<Integer>> positions,
+        int counter) {
+    if (name.isEmpty()) {
+      throw new IllegalArgumentException("zero-length parameter name at position "
+            + position);
+    }
+    positions.computeIfAbsent(name.toString(), k -> new ArrayList<>()).add(counter);
+  }
+
+}
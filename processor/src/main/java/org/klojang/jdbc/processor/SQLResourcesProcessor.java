@@ -0,0 +1,171 @@
+package org.klojang.jdbc.processor;
+
+import org.klojang.jdbc.SQLResources;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Set;
+
+import static org.klojang.jdbc.processor.SourceUtils.literal;
+
+/**
+ * Parses the SQL files listed in {@link SQLResources @SQLResources} annotations and
+ * generates, for each annotated class, a class that registers the normalized SQL and the
+ * positions of the named parameters with
+ * {@link org.klojang.jdbc.PrecompiledSQL PrecompiledSQL}. The SQL files are looked up
+ * in the class output directory (where Maven copies them before compiling), then on the
+ * class path, then on the source path. A missing file or malformed SQL is reported as a
+ * compilation error on the annotated class.
+ */
+@SupportedAnnotationTypes("org.klojang.jdbc.SQLResources")
+public final class SQLResourcesProcessor extends AbstractProcessor {
+
+  // Must match the suffix with which Klojang JDBC looks up the generated class
+  private static final String SUFFIX = "_SQLResources";
+
+  private static final StandardLocation[] LOCATIONS = {
+        StandardLocation.CLASS_OUTPUT,
+        StandardLocation.CLASS_PATH,
+        StandardLocation.SOURCE_PATH
+  };
+
+  private record Resource(String path, String sql, SQLParser parser) { }
+
+  public SQLResourcesProcessor() { }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment env) {
+    for (Element element : env.getElementsAnnotatedWith(SQLResources.class)) {
+      if (element instanceof TypeElement type) {
+        process(type);
+      }
+    }
+    return true;
+  }
+
+  private void process(TypeElement type) {
+    String[] paths = type.getAnnotation(SQLResources.class).value();
+    Resource[] resources = new Resource[paths.length];
+    for (int i = 0; i < paths.length; ++i) {
+      if ((resources[i] = parse(type, paths[i])) == null) {
+        return;
+      }
+    }
+    try {
+      generate(type, resources);
+    } catch (IOException e) {
+      error(type, "failed to generate precompiled SQL: " + e);
+    }
+  }
+
+  private Resource parse(TypeElement type, String path) {
+    String sql = read(type, path);
+    if (sql == null) {
+      error(type, "no such SQL file: " + path);
+      return null;
+    }
+    try {
+      return new Resource(path, sql, new SQLParser(sql));
+    } catch (RuntimeException e) {
+      error(type, "invalid SQL in " + path + ": " + e.getMessage());
+      return null;
+    }
+  }
+
+  // Resolves the path the way Class.getResourceAsStream() does
+  private String read(TypeElement type, String path) {
+    String pkg, name;
+    if (path.startsWith("/")) {
+      pkg = "";
+      name = path.substring(1);
+    } else {
+      pkg = packageOf(type).getQualifiedName().toString();
+      name = path;
+    }
+    for (JavaFileManager.Location location : LOCATIONS) {
+      try {
+        FileObject file = processingEnv.getFiler().getResource(location, pkg, name);
+        return file.getCharContent(true).toString();
+      } catch (IOException | IllegalArgumentException e) {
+        // try next location
+      }
+    }
+    return null;
+  }
+
+  private void generate(TypeElement type, Resource[] resources) throws IOException {
+    PackageElement pkg = packageOf(type);
+    String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+    String simpleName = binaryName.substring(binaryName.lastIndexOf('.') + 1) + SUFFIX;
+    JavaFileObject file = processingEnv.getFiler()
+          .createSourceFile(binaryName + SUFFIX, type);
+    StringBuilder sb = new StringBuilder(1024);
+    if (!pkg.isUnnamed()) {
+      sb.append("package ").append(pkg.getQualifiedName()).append(";\n\n");
+    }
+    sb.append("// Generated by ")
+          .append(getClass().getName())
+          .append(" from the @SQLResources annotation on ")
+          .append(type.getQualifiedName())
+          .append(". Do not edit.\n");
+    sb.append("final class ").append(simpleName).append(" {\n\n");
+    sb.append("  static {\n");
+    for (Resource r : resources) {
+      List<SQLParser.Parameter> params = r.parser().getParameters();
+      sb.append("    org.klojang.jdbc.PrecompiledSQL.register(")
+            .append(type.getQualifiedName()).append(".class,\n")
+            .append("          ").append(literal(r.path())).append(",\n")
+            .append("          ").append(literal(r.sql())).append(",\n")
+            .append("          ")
+            .append(literal(r.parser().getNormalizedSQL()))
+            .append(",\n")
+            .append("          new String[] {");
+      for (int i = 0; i < params.size(); ++i) {
+        sb.append(i == 0 ? "" : ", ").append(literal(params.get(i).name()));
+      }
+      sb.append("},\n").append("          new int[][] {");
+      for (int i = 0; i < params.size(); ++i) {
+        sb.append(i == 0 ? "{" : ", {");
+        int[] positions = params.get(i).positions();
+        for (int j = 0; j < positions.length; ++j) {
+          sb.append(j == 0 ? "" : ", ").append(positions[j]);
+        }
+        sb.append('}');
+      }
+      sb.append("});\n");
+    }
+    sb.append("  }\n\n");
+    sb.append("  private ").append(simpleName).append("() { }\n\n");
+    sb.append("}\n");
+    try (Writer writer = file.openWriter()) {
+      writer.write(sb.toString());
+    }
+  }
+
+  private PackageElement packageOf(TypeElement type) {
+    return processingEnv.getElementUtils().getPackageOf(type);
+  }
+
+  private void error(Element element, String message) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+  }
+
+}
@@ -0,0 +1,46 @@
+package org.klojang.jdbc.processor;
+
+/*
+ * Helper methods for writing Java source code.
+ */
+final class SourceUtils {
+
+  // Keeps string literals well below the 65535-byte limit on constants in a class file
+  private static final int MAX_LITERAL_LENGTH = 8192;
+
+  private SourceUtils() { throw new UnsupportedOperationException(); }
+
+  static String literal(String s) {
+    if (s.length() <= MAX_LITERAL_LENGTH) {
+      return quote(s);
+    }
+    StringBuilder sb = new StringBuilder(s.length() + 64).append("String.join(\"\"");
+    for (int i = 0; i < s.length(); i += MAX_LITERAL_LENGTH) {
+      sb.append(", ").append(quote(s.substring(i, Math.min(s.length(), i + MAX_LITERAL_LENGTH))));
+    }
+    return sb.append(')').toString();
+  }
+
+  static String quote(String s) {
+    StringBuilder sb = new StringBuilder(s.length() + 16).append('"');
+    for (int i = 0; i < s.length(); ++i) {
+      char c = s.charAt(i);
+      switch (c) {
+        case '"' -> sb.append("\\\"");
+        case '\\' -> sb.append("\\\\");
+        case '\n' -> sb.append("\\n");
+        case '\r' -> sb.append("\\r");
+        case '\t' -> sb.append("\\t");
+        default -> {
+          if (c < 0x20 || c > 0x7e) {
+            sb.append(String.format("\\u%04x", (int) c));
+          } else {
+            sb.append(c);
+          }
+        }
+      }
+    }
+    return sb.append('"').toString();
+  }
+
+}
@@ -0,0 +1,108 @@
+package org.klojang.jdbc.processor;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BeanMappingProcessorTest {
+
+  @Test
+  public void javaBean00() throws IOException {
+    String src = """
+          package test;
+          @org.klojang.jdbc.BeanMapping
+          public class Employee {
+            private int id;
+            private String name;
+            public int getId() { return id; }
+            void setId(int id) { this.id = id; }
+            public String getName() { return name; }
+            public void setName(String name) { this.name = name; }
+          }
+          """;
+    TestCompiler.Result result = new TestCompiler(new BeanMappingProcessor())
+          .compile(Map.of("test.Employee", src));
+    assertTrue(result.success(), result.errors().toString());
+    String generated = result.generatedSource("test.Employee_BeanMapper");
+    assertTrue(generated.contains(
+          "final class Employee_BeanMapper extends org.klojang.jdbc.BeanMapper<test.Employee>"));
+    assertTrue(generated.contains("register(new Employee_BeanMapper());"));
+    assertTrue(generated.contains("return new test.Employee();"));
+    // Package-private setter
+    assertTrue(generated.contains("bean.setId((int) (value == null ? 0 : value));"));
+    assertTrue(generated.contains("bean.setName((java.lang.String) value);"));
+    assertTrue(generated.contains("bean.getId();"));
+    assertTrue(generated.contains("bean.getName();"));
+  }
+
+  @Test
+  public void genericSuperclass00() throws IOException {
+    String base = """
+          package test;
+          public class Base<T> {
+            private T id;
+            public T getId() { return id; }
+            void setId(T id) { this.id = id; }
+          }
+          """;
+    String src = """
+          package test;
+          @org.klojang.jdbc.BeanMapping
+          public class Employee extends Base<Integer> {
+            private String name;
+            public String getName() { return name; }
+            void setName(String name) { this.name = name; }
+          }
+          """;
+    TestCompiler.Result result = new TestCompiler(new BeanMappingProcessor())
+          .compile(Map.of("test.Base", base, "test.Employee", src));
+    assertTrue(result.success(), result.errors().toString());
+    String generated = result.generatedSource("test.Employee_BeanMapper");
+    // The type argument of the superclass, not the erasure of its type parameter
+    assertTrue(generated.contains("bean.setId((java.lang.Integer) value);"));
+    assertTrue(generated.contains(
+          "new Class<?>[] {java.lang.Integer.class, java.lang.String.class}"));
+    assertFalse(generated.contains("java.lang.Object"));
+  }
+
+  @Test
+  public void record00() throws IOException {
+    String src = """
+          package test;
+          @org.klojang.jdbc.BeanMapping
+          record Department(long id, String name) { }
+          """;
+    TestCompiler.Result result = new TestCompiler(new BeanMappingProcessor())
+          .compile(Map.of("test.Department", src));
+    assertTrue(result.success(), result.errors().toString());
+    String generated = result.generatedSource("test.Department_BeanMapper");
+    assertTrue(generated.contains("public test.Department newRecord(Object[] values)"));
+    assertTrue(generated.contains("(long) (values[0] == null ? 0L : values[0])"));
+    assertTrue(generated.contains("(java.lang.String) values[1]"));
+    assertTrue(generated.contains("bean.id();"));
+  }
+
+  @Test
+  public void noArgConstructor00() throws IOException {
+    String src = """
+          package test;
+          @org.klojang.jdbc.BeanMapping
+          public class Employee {
+            private Employee() { }
+            public void setId(int id) { }
+          }
+          """;
+    TestCompiler.Result result = new TestCompiler(new BeanMappingProcessor())
+          .compile(Map.of("test.Employee", src));
+    assertFalse(result.success());
+    assertEquals(1, result.errors().size());
+    assertEquals("@BeanMapping type must have a non-private no-arg constructor",
+          result.errors().get(0));
+  }
+
+}
@@ -0,0 +1,40 @@
+package org.klojang.jdbc.processor;
+
+import org.junit.jupiter.api.Test;
+import org.klojang.jdbc.x.sql.NamedParameter;
+import org.klojang.jdbc.x.sql.ParamExtractor;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+ * SQLParser is a copy of the library's ParamExtractor. Make sure they agree.
+ */
+public class SQLParserTest {
+
+  @Test
+  public void parse00() {
+    compare("SELECT * FROM EMPLOYEE");
+    compare("SELECT * FROM EMPLOYEE WHERE ID = :id");
+    compare("SELECT * FROM EMPLOYEE WHERE ID = :id OR MANAGER_ID = :id");
+    compare("SELECT :a, :b_1, ':c', 'it\\'s :d', :a FROM DUAL WHERE X = :e");
+    compare("SELECT * FROM EMPLOYEE WHERE NAME = ':name' AND AGE > :age");
+    compare("UPDATE EMPLOYEE SET NAME = :name WHERE ID=:id");
+  }
+
+  private static void compare(String sql) {
+    ParamExtractor expected = new ParamExtractor(sql);
+    SQLParser actual = new SQLParser(sql);
+    assertEquals(expected.getNormalizedSQL(), actual.getNormalizedSQL());
+    List<NamedParameter> params = expected.getParameters();
+    assertEquals(params.size(), actual.getParameters().size());
+    for (int i = 0; i < params.size(); ++i) {
+      assertEquals(params.get(i).name(), actual.getParameters().get(i).name());
+      assertArrayEquals(params.get(i).positions().toArray(),
+            actual.getParameters().get(i).positions());
+    }
+  }
+
+}
@@ -0,0 +1,62 @@
+package org.klojang.jdbc.processor;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SQLResourcesProcessorTest {
+
+  private static final String DAO = """
+        package test;
+        @org.klojang.jdbc.SQLResources({"employees.sql"})
+        public class EmployeeDao { }
+        """;
+
+  @Test
+  public void process00() throws IOException {
+    TestCompiler compiler = new TestCompiler(new SQLResourcesProcessor());
+    writeSQL(compiler, "SELECT * FROM EMPLOYEE WHERE ID = :id OR MANAGER_ID = :id");
+    TestCompiler.Result result = compiler.compile(Map.of("test.EmployeeDao", DAO));
+    assertTrue(result.success(), result.errors().toString());
+    String generated = result.generatedSource("test.EmployeeDao_SQLResources");
+    assertTrue(generated.contains("final class EmployeeDao_SQLResources {"));
+    assertTrue(generated.contains("org.klojang.jdbc.PrecompiledSQL.register(test.EmployeeDao.class,"));
+    assertTrue(generated.contains("\"employees.sql\","));
+    assertTrue(generated.contains(
+          "\"SELECT * FROM EMPLOYEE WHERE ID = ? OR MANAGER_ID = ?\","));
+    assertTrue(generated.contains("new String[] {\"id\"},"));
+    assertTrue(generated.contains("new int[][] {{1, 2}});"));
+  }
+
+  @Test
+  public void process01() throws IOException {
+    TestCompiler compiler = new TestCompiler(new SQLResourcesProcessor());
+    writeSQL(compiler, "SELECT * FROM EMPLOYEE WHERE ID = : AND NAME = 'a:b'");
+    TestCompiler.Result result = compiler.compile(Map.of("test.EmployeeDao", DAO));
+    assertFalse(result.success());
+    assertEquals(1, result.errors().size());
+    assertEquals("invalid SQL in employees.sql: zero-length parameter name at position 34",
+          result.errors().get(0));
+  }
+
+  @Test
+  public void process02() throws IOException {
+    TestCompiler compiler = new TestCompiler(new SQLResourcesProcessor());
+    TestCompiler.Result result = compiler.compile(Map.of("test.EmployeeDao", DAO));
+    assertFalse(result.success());
+    assertEquals("no such SQL file: employees.sql", result.errors().get(0));
+  }
+
+  private static void writeSQL(TestCompiler compiler, String sql) throws IOException {
+    Path dir = Files.createDirectories(compiler.classOutput().resolve("test"));
+    Files.writeString(dir.resolve("employees.sql"), sql);
+  }
+
+}
@@ -0,0 +1,95 @@
+package org.klojang.jdbc.processor;
+
+import javax.annotation.processing.Processor;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/*
+ * Compiles in-memory source files with one of the annotation processors, using the test
+ * class path. Generated sources and class files end up in a temporary directory.
+ */
+final class TestCompiler {
+
+  record Result(boolean success, List<String> errors, Path generatedSources) {
+
+    String generatedSource(String className) throws IOException {
+      return Files.readString(generatedSources.resolve(className.replace('.', '/') + ".java"));
+    }
+  }
+
+  private final Processor processor;
+  private final Path classOutput;
+  private final Path sourceOutput;
+
+  TestCompiler(Processor processor) throws IOException {
+    this.processor = processor;
+    Path root = Files.createTempDirectory("klojang-jdbc-processor-test");
+    this.classOutput = Files.createDirectories(root.resolve("classes"));
+    this.sourceOutput = Files.createDirectories(root.resolve("generated-sources"));
+  }
+
+  // The class output directory, where the processors look for SQL files first
+  Path classOutput() {
+    return classOutput;
+  }
+
+  // Maps class names to source code
+  Result compile(Map<String, String> sources) throws IOException {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (StandardJavaFileManager fm = compiler.getStandardFileManager(diagnostics,
+          null,
+          null)) {
+      fm.setLocationFromPaths(StandardLocation.CLASS_OUTPUT, List.of(classOutput));
+      fm.setLocationFromPaths(StandardLocation.SOURCE_OUTPUT, List.of(sourceOutput));
+      List<JavaFileObject> units = new ArrayList<>(sources.size());
+      sources.forEach((name, code) -> units.add(new Source(name, code)));
+      List<String> options = List.of("-classpath", System.getProperty("java.class.path"));
+      JavaCompiler.CompilationTask task = compiler.getTask(null,
+            fm,
+            diagnostics,
+            options,
+            null,
+            units);
+      task.setProcessors(List.of(processor));
+      boolean success = task.call();
+      List<String> errors = diagnostics.getDiagnostics()
+            .stream()
+            .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+            .map(d -> d.getMessage(null))
+            .collect(Collectors.toList());
+      return new Result(success, errors, sourceOutput);
+    }
+  }
+
+  private static final class Source extends SimpleJavaFileObject {
+
+    private final String code;
+
+    Source(String className, String code) {
+      super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension),
+            Kind.SOURCE);
+      this.code = code;
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      return code;
+    }
+  }
+
+}
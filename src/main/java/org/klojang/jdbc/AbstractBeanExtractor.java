@@ -9,10 +9,17 @@ import org.slf4j.LoggerFactory;
 
 import java.sql.ResultSet;
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.klojang.check.CommonChecks.gt;
-import static org.klojang.check.CommonChecks.present;
+import static org.klojang.check.CommonChecks.notNull;
 import static org.klojang.check.CommonExceptions.STATE;
+import static org.klojang.jdbc.x.Strings.ACTION;
+import static org.klojang.jdbc.x.Strings.COLLECTOR;
 import static org.klojang.jdbc.x.Strings.LIMIT;
 import static org.klojang.jdbc.x.Strings.SIZE_ESTIMATE;
 
@@ -22,31 +29,49 @@ abstract sealed class AbstractBeanExtractor<T> implements BeanExtractor<T> permi
       RecordExtractor,
       CustomExtractor {
 
+  // Does not read ahead: the next row is only converted when next() is called. This
+  // matters for extractors that keep populating the same bean.
   private static class BeanIterator<T> implements Iterator<T> {
 
     private final AbstractBeanExtractor<T> extractor;
 
-    private Optional<T> prefetched;
-
     BeanIterator(AbstractBeanExtractor<T> extractor) {
       this.extractor = extractor;
-      this.prefetched = extractor.extract();
     }
 
     @Override
     public boolean hasNext() {
-      return prefetched.isPresent();
+      return extractor.hasNext();
     }
 
     @Override
     public T next() {
-      Check.on(STATE, prefetched).is(present(), Err.NO_MORE_ROWS);
-      T bean = prefetched.get();
-      prefetched = extractor.extract();
+      T bean = extractor.next();
+      Check.on(STATE, bean).is(notNull(), Err.NO_MORE_ROWS);
       return bean;
     }
   }
 
+  private static class BeanSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+    private final AbstractBeanExtractor<T> extractor;
+
+    BeanSpliterator(AbstractBeanExtractor<T> extractor) {
+      super(Long.MAX_VALUE, ORDERED | NONNULL);
+      this.extractor = extractor;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+      T bean = extractor.next();
+      if (bean == null) {
+        return false;
+      }
+      action.accept(bean);
+      return true;
+    }
+  }
+
   @SuppressWarnings({"unused"})
   private static final Logger LOG = LoggerFactory.getLogger(SQLInsert.class);
 
@@ -55,6 +80,8 @@ abstract sealed class AbstractBeanExtractor<T> implements BeanExtractor<T> permi
 
   private T first;
   private boolean empty;
+  // Whether the cursor has been moved to a row that has not been converted yet
+  private boolean pending;
 
   AbstractBeanExtractor(ResultSet rs,
         FallibleFunction<ResultSet, T, ? extends Throwable> converter) {
@@ -73,48 +100,56 @@ abstract sealed class AbstractBeanExtractor<T> implements BeanExtractor<T> permi
 
   @Override
   public Optional<T> extract() {
+    return Optional.ofNullable(next());
+  }
+
+  // Moves the cursor to the next row, if necessary, without converting it
+  private boolean hasNext() {
     if (empty) {
-      return Optional.empty();
+      return false;
     }
-    var first = this.first;
-    if (first != null) {
-      this.first = null;
-      return Optional.of(first);
+    if (first != null || pending) {
+      return true;
     }
     try {
       if (rs.next()) {
-        return Optional.of(converter.apply(rs));
+        return pending = true;
       }
       empty = true;
-      return Optional.empty();
+      return false;
     } catch (Throwable t) {
       throw Utils.wrap(t);
     }
   }
 
-  @Override
-  public List<T> extract(int limit) {
-    Check.that(limit, LIMIT).is(gt(), 0);
-    if (empty) {
-      return Collections.emptyList();
+  // Returns the next bean, or null if there are no more rows
+  private T next() {
+    if (!hasNext()) {
+      return null;
     }
-    List<T> all = new ArrayList<>(limit);
     var first = this.first;
     if (first != null) {
       this.first = null;
-      all.add(first);
+      return first;
     }
+    pending = false;
     try {
-      for (int i = (first == null ? 0 : 1); i < limit; ++i) {
-        if (!rs.next()) {
-          empty = true;
-          break;
-        }
-        all.add(converter.apply(rs));
-      }
+      return converter.apply(rs);
     } catch (Throwable t) {
       throw Utils.wrap(t);
     }
+  }
+
+  @Override
+  public List<T> extract(int limit) {
+    Check.that(limit, LIMIT).is(gt(), 0);
+    if (empty) {
+      return Collections.emptyList();
+    }
+    List<T> all = new ArrayList<>(limit);
+    for (T bean; all.size() < limit && (bean = next()) != null; ) {
+      all.add(bean);
+    }
     return all;
   }
 
@@ -125,22 +160,35 @@ abstract sealed class AbstractBeanExtractor<T> implements BeanExtractor<T> permi
       return Collections.emptyList();
     }
     List<T> all = new ArrayList<>(sizeEstimate);
-    var first = this.first;
-    if (first != null) {
-      this.first = null;
-      all.add(first);
-    }
-    try {
-      while (rs.next()) {
-        all.add(converter.apply(rs));
-      }
-    } catch (Throwable t) {
-      throw Utils.wrap(t);
+    for (T bean = next(); bean != null; bean = next()) {
+      all.add(bean);
     }
-    empty = true;
     return all;
   }
 
+  @Override
+  public void forEach(Consumer<? super T> action) {
+    Check.notNull(action, ACTION);
+    for (T bean = next(); bean != null; bean = next()) {
+      action.accept(bean);
+    }
+  }
+
+  @Override
+  public <A, R> R collect(Collector<? super T, A, R> collector) {
+    Check.notNull(collector, COLLECTOR);
+    A container = collector.supplier().get();
+    BiConsumer<A, ? super T> accumulator = collector.accumulator();
+    for (T bean = next(); bean != null; bean = next()) {
+      accumulator.accept(container, bean);
+    }
+    return collector.finisher().apply(container);
+  }
+
+  @Override
+  public Stream<T> stream() {
+    return StreamSupport.stream(new BeanSpliterator<>(this), false);
+  }
 
   @Override
   public boolean isEmpty() {
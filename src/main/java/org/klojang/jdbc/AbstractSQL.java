@@ -6,8 +6,8 @@ import org.klojang.jdbc.x.sql.ParameterInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 abstract sealed class AbstractSQL implements SQL
@@ -24,15 +24,20 @@ abstract sealed class AbstractSQL implements SQL
   @SuppressWarnings("rawtypes")
   private final Map<Class, BeanExtractorFactory> factories;
 
-  private MapExtractorFactory mapExtractorFactory;
+  private final MapExtractorFactory mapExtractorFactory;
+
+  private volatile MapBinder mapBinder;
 
   AbstractSQL(String sql, SessionConfig config) {
     this.unparsed = sql;
     this.config = config;
     // These maps are unlikely to grow beyond one or two entries (you can't extract
-    // _that_ many beans from a single row).
-    binders = new HashMap<>();
-    factories = new HashMap<>();
+    // _that_ many beans from a single row). SQL instances are typically held in static
+    // final fields and shared by sessions running in different threads, hence the
+    // concurrent maps.
+    binders = new ConcurrentHashMap<>(4);
+    factories = new ConcurrentHashMap<>(4);
+    mapExtractorFactory = new MapExtractorFactory(config);
   }
 
   // Returns the original, user-provided SQL string, with any named parameters and
@@ -47,12 +52,23 @@ abstract sealed class AbstractSQL implements SQL
 
   @SuppressWarnings("unchecked")
   final <T> BeanBinder<T> getBeanBinder(ParameterInfo paramInfo, Class<T> clazz) {
-    return binders.computeIfAbsent(clazz,
-          k -> new BeanBinder<>(clazz, paramInfo.parameters(), config));
+    BeanBinder<T> binder = binders.get(clazz);
+    // With SQL templates, the named parameters may differ from one rendering to the
+    // next. If so, the cached binder is simply replaced.
+    if (binder == null || !binder.isFor(paramInfo.parameters())) {
+      binder = new BeanBinder<>(clazz, paramInfo.parameters(), config);
+      binders.put(clazz, binder);
+    }
+    return binder;
   }
 
   final MapBinder getMapBinder(ParameterInfo paramInfo) {
-    return new MapBinder(paramInfo.parameters(), config);
+    MapBinder binder = mapBinder;
+    // As with bean binders, replace the binder if the named parameters have changed
+    if (binder == null || !binder.isFor(paramInfo.parameters())) {
+      mapBinder = binder = new MapBinder(paramInfo.parameters(), config);
+    }
+    return binder;
   }
 
   @SuppressWarnings({"unchecked", "rawtypes"})
@@ -68,9 +84,6 @@ abstract sealed class AbstractSQL implements SQL
   }
 
   final MapExtractorFactory getMapExtractorFactory() {
-    if (mapExtractorFactory == null) {
-      mapExtractorFactory = new MapExtractorFactory(config);
-    }
     return mapExtractorFactory;
   }
 
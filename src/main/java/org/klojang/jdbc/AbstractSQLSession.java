@@ -1,10 +1,14 @@
 package org.klojang.jdbc;
 
+import org.klojang.jdbc.x.JDBC;
+import org.klojang.jdbc.x.StatementCache;
 import org.klojang.jdbc.x.Utils;
+import org.klojang.jdbc.x.sql.ParameterInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 
@@ -33,6 +37,23 @@ abstract sealed class AbstractSQLSession implements SQLSession
     }
   }
 
+  // Returns a cached PreparedStatement if the SessionConfig enables statement caching
+  final PreparedStatement prepare(ParameterInfo paramInfo, boolean retrieveKeys) {
+    int cacheSize = sql.config().getStatementCacheSize();
+    if (cacheSize > 0) {
+      return StatementCache.get(con, paramInfo, retrieveKeys, cacheSize);
+    }
+    return JDBC.getPreparedStatement(con, paramInfo, retrieveKeys);
+  }
+
+  final PreparedStatement prepare(ParameterInfo paramInfo) {
+    int cacheSize = sql.config().getStatementCacheSize();
+    if (cacheSize > 0) {
+      return StatementCache.get(con, paramInfo, false, cacheSize);
+    }
+    return JDBC.getPreparedStatement(con, paramInfo);
+  }
+
   AbstractSQL getSQL() {
     return sql;
   }
@@ -3,21 +3,40 @@ package org.klojang.jdbc;
 import org.klojang.check.Check;
 import org.klojang.jdbc.x.Err;
 import org.klojang.jdbc.x.JDBC;
+import org.klojang.jdbc.x.StatementCache;
 import org.klojang.jdbc.x.Utils;
+import org.klojang.jdbc.x.ps.RowBinder;
 import org.klojang.jdbc.x.sql.BatchInsertConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static java.sql.Statement.NO_GENERATED_KEYS;
 import static java.sql.Statement.RETURN_GENERATED_KEYS;
+import static org.klojang.check.CommonChecks.instanceOf;
 import static org.klojang.check.CommonChecks.zero;
 import static org.klojang.check.CommonExceptions.STATE;
+import static org.klojang.jdbc.x.Err.CANNOT_BIND_SQL_EXPRESSION;
 import static org.klojang.jdbc.x.Err.NO_KEYS_WERE_GENERATED;
 import static org.klojang.jdbc.x.Msg.EXECUTING_SQL;
+import static org.klojang.jdbc.x.Strings.BEANS;
 import static org.klojang.jdbc.x.Strings.ID_PROPERTY;
 import static org.klojang.util.ArrayMethods.EMPTY_LONG_ARRAY;
 import static org.klojang.util.ArrayMethods.implode;
@@ -27,12 +46,18 @@ import static org.klojang.util.StringMethods.append;
 /**
  * <p>{@code BatchInsert} specializes in saving large batches of JavaBeans or records
  * to the database. Instances are configured and obtained via a
- * {@link BatchInsertBuilder}. A {@code BatchInsert} is not underpinned by a
+ * {@link BatchInsertBuilder}. By default, a {@code BatchInsert} is not underpinned by a
  * {@link java.sql.PreparedStatement}. Yet, it provides just as much protection against
  * SQL injection, as it will process each and every value in the batch using
  * {@link Quoter#quoteValue(Object) Quoter.quoteValue()}. This method ultimately relies on
  * {@link Statement#enquoteLiteral(String) Statement.enquoteLiteral()} &#8212; in other
- * words, the JDBC driver's own escape-and-quote mechanism.
+ * words, the JDBC driver's own escape-and-quote mechanism. Alternatively, you can
+ * configure the {@code BatchInsert} to use a parameterized multi-row INSERT statement
+ * (see {@link BatchInsertBuilder#withParameterizedValues(boolean)}). A
+ * {@code BatchInsert} created from a {@link javax.sql.DataSource DataSource} can save
+ * multiple chunks concurrently (see {@link BatchInsertBuilder#withParallelism(int)}).
+ * Independently of that, a {@code BatchInsert} can prepare the next chunk while the
+ * previous one is being executed (see {@link BatchInsertBuilder#withPipelineDepth(int)}).
  *
  * <h2>Batch Insert Variants</h2>
  *
@@ -51,19 +76,43 @@ import static org.klojang.util.StringMethods.append;
  * @see BatchInsertBuilder
  * @see SQL#insertBatch()
  */
-@SuppressWarnings({"resource"})
+@SuppressWarnings({"resource", "unchecked"})
 public final class BatchInsert<T> {
 
   private static final Logger LOG = LoggerFactory.getLogger(AbstractSQLSession.class);
 
+  /**
+   * The number of beans saved at a time by {@link #insertAll(Iterator) insertAll()} if
+   * no chunk size was specified.
+   */
+  public static final int DEFAULT_STREAMING_CHUNK_SIZE = 1000;
+
+  /**
+   * The maximum number of parameters in a
+   * {@linkplain BatchInsertBuilder#withParameterizedValues(boolean) parameterized}
+   * INSERT statement if no chunk size was specified. Stays below the limits of the most
+   * restrictive JDBC drivers (e.g. 2100 for SQL Server).
+   */
+  public static final int DEFAULT_MAX_PARAMETERS = 2000;
+
+  // The number of parameterized INSERT statements (one per distinct chunk size) to keep
+  // open on the connection passed to BatchInsertBuilder.prepare(Connection), so that
+  // subsequent calls can reuse them.
+  private static final int STATEMENT_CACHE_SIZE = 4;
+
   private final BatchInsertConfig<T> cfg;
   private final String[] props;
   private final String sqlBase;
 
+  // The average length of a row within the VALUES clause, as measured for the last
+  // statement. Races are harmless, since it is only used to size StringBuilders.
+  private volatile int rowLength;
+
   BatchInsert(BatchInsertConfig<T> cfg) {
     this.cfg = cfg;
     this.props = cfg.reader().getReadableProperties().toArray(String[]::new);
     this.sqlBase = getSqlBase(cfg, props);
+    this.rowLength = props.length * 12 + 3;
   }
 
   /**
@@ -74,8 +123,7 @@ public final class BatchInsert<T> {
   public void insertBatch(List<T> beans) {
     Check.notNull(beans);
     if (!beans.isEmpty()) {
-      int chunkSize = cfg.chunkSize() == -1 ? beans.size() : cfg.chunkSize();
-      insertBatch(beans, chunkSize);
+      insertBatch(beans, newSizer(beans.size()));
     }
   }
 
@@ -92,8 +140,7 @@ public final class BatchInsert<T> {
     if (beans.isEmpty()) {
       return EMPTY_LONG_ARRAY;
     }
-    int chunkSize = cfg.chunkSize() == -1 ? beans.size() : cfg.chunkSize();
-    return insertBatchAndGetIDs(beans, chunkSize);
+    return insertBatchAndGetIDs(beans, newSizer(beans.size()));
   }
 
   /**
@@ -111,99 +158,647 @@ public final class BatchInsert<T> {
     Class<T> clazz = cfg.reader().getBeanClass();
     Check.on(STATE, clazz).isNot(Class::isRecord, Err.NOT_MUTABLE, className(clazz));
     if (!beans.isEmpty()) {
-      int chunkSize = cfg.chunkSize() == -1 ? beans.size() : cfg.chunkSize();
-      insertBatchAndSetIDs(beans, idProperty, chunkSize);
+      insertBatchAndSetIDs(beans, idProperty, newSizer(beans.size()));
     }
   }
 
-  private void insertBatch(List<T> beans, int chunkSize) {
-    for (int i = 0; i < beans.size(); i += chunkSize) {
-      int j = Math.min(beans.size(), i + chunkSize);
-      try {
-        insertChunk(beans.subList(i, j));
-      } catch (Throwable t) {
-        throw Utils.wrap(t);
-      }
+  /**
+   * Saves the beans or records provided by the specified {@code Iterator} to the
+   * database. The beans are pulled from the {@code Iterator} one chunk at a time, so
+   * no more than one chunk (or, in {@linkplain BatchInsertBuilder#withParallelism(int)
+   * parallel mode}, one chunk per worker thread) is held in memory at any time. This
+   * allows you to save arbitrarily large amounts of data, for example coming from a
+   * {@link BeanExtractor} or a CSV file. If no chunk size was specified, the beans are
+   * saved in chunks of {@value #DEFAULT_STREAMING_CHUNK_SIZE}.
+   *
+   * @param beans an {@code Iterator} supplying the beans to save
+   * @return the number of beans saved
+   */
+  public long insertAll(Iterator<T> beans) {
+    Check.notNull(beans, BEANS);
+    IteratorSource source = new IteratorSource(beans,
+          newSizer(DEFAULT_STREAMING_CHUNK_SIZE));
+    insertChunks(source, cfg.parallelism(), NO_GENERATED_KEYS, (chunk, from, keys) -> { });
+    return source.count;
+  }
+
+  /**
+   * Saves the beans or records in the specified {@code Stream} to the database. The
+   * beans are pulled from the {@code Stream} one chunk at a time. See
+   * {@link #insertAll(Iterator)}. The stream is closed once all beans have been saved.
+   *
+   * @param beans a {@code Stream} of beans to save
+   * @return the number of beans saved
+   */
+  public long insertAll(Stream<T> beans) {
+    Check.notNull(beans, BEANS);
+    try (beans) {
+      return insertAll(beans.iterator());
     }
   }
 
-  private long[] insertBatchAndGetIDs(List<T> beans, int chunkSize) {
+  private void insertBatch(List<T> beans, ChunkSizer sizer) {
+    insertChunks(beans, sizer, NO_GENERATED_KEYS, (chunk, from, keys) -> { });
+  }
+
+  private long[] insertBatchAndGetIDs(List<T> beans, ChunkSizer sizer) {
     long[] allKeys = new long[beans.size()];
-    for (int i = 0; i < beans.size(); i += chunkSize) {
-      int j = Math.min(beans.size(), i + chunkSize);
-      try {
-        long[] keys = insertChunkAndGetIDs(beans.subList(i, j));
-        System.arraycopy(keys, 0, allKeys, i, j);
-      } catch (Throwable t) {
-        throw Utils.wrap(t);
+    insertChunks(beans, sizer, RETURN_GENERATED_KEYS, (chunk, from, keys) ->
+          System.arraycopy(keys, 0, allKeys, from, keys.length));
+    return allKeys;
+  }
+
+  private void insertBatchAndSetIDs(List<T> beans, String idProperty, ChunkSizer sizer) {
+    insertChunks(beans, sizer, RETURN_GENERATED_KEYS, (chunk, from, keys) -> {
+      Utils.check(keys.length).isNot(zero(), NO_KEYS_WERE_GENERATED);
+      for (int i = 0; i < keys.length; ++i) {
+        JDBC.setID(chunk.get(i), idProperty, keys[i]);
       }
+    });
+  }
+
+  // Processes the keys generated for a chunk. from is the index of the first bean in
+  // the chunk. keys is null if no keys were requested.
+  @FunctionalInterface
+  private interface KeyHandler<T> {
+    void accept(List<T> chunk, int from, long[] keys) throws Throwable;
+  }
+
+  private record Chunk<T>(int number, int from, List<T> beans) { }
+
+  // Hands out the chunks to be saved. Must be thread-safe, because in parallel mode
+  // the worker threads share a single ChunkSource.
+  private interface ChunkSource<T> {
+    // Returns the next chunk, or null if there are no more chunks
+    Chunk<T> next();
+
+    // Determines the size of the chunks handed out by this source
+    ChunkSizer sizer();
+
+    // Returns the number of chunks handed out so far
+    int chunks();
+  }
+
+  // Determines the size of the next chunk. Unless an adaptive chunk size was requested,
+  // the size never changes. Otherwise the size is halved when a full chunk takes more
+  // than twice the target time to save, and doubled when it takes less than half the
+  // target time. Halving and doubling keeps the number of distinct chunk sizes, and
+  // thus, in parameterized mode, the number of prepared statements, small.
+  private static final class ChunkSizer {
+
+    private final int maxSize;
+    private final long targetNanos;
+    private volatile int size;
+
+    ChunkSizer(int size, int maxSize, long targetNanos) {
+      this.size = size;
+      this.maxSize = maxSize;
+      this.targetNanos = targetNanos;
+    }
+
+    int size() {
+      return size;
+    }
+
+    synchronized void chunkSaved(int rows, long nanos) {
+      // A partial chunk (the last one) tells us little about the optimal size
+      if (targetNanos == 0 || rows != size) {
+        return;
+      }
+      if (nanos > targetNanos * 2 && size > 1) {
+        size = size / 2;
+      } else if (nanos < targetNanos / 2 && size < maxSize) {
+        size = (int) Math.min(maxSize, size * 2L);
+      }
+    }
+  }
+
+  private ChunkSizer newSizer(int defaultSize) {
+    // Without an explicit chunk size, keep parameterized statements within the
+    // parameter limits of the driver
+    int limit = cfg.parameterized()
+          ? Math.max(1, DEFAULT_MAX_PARAMETERS / Math.max(1, props.length))
+          : Integer.MAX_VALUE;
+    if (cfg.targetChunkTime() == null) {
+      int size = cfg.chunkSize() == -1 ? Math.min(defaultSize, limit) : cfg.chunkSize();
+      return new ChunkSizer(size, size, 0);
+    }
+    int max = cfg.chunkSize() == -1 ? limit : cfg.chunkSize();
+    int size = Math.min(max, DEFAULT_STREAMING_CHUNK_SIZE);
+    return new ChunkSizer(size, max, Math.max(1, cfg.targetChunkTime().toNanos()));
+  }
+
+  private static final class ListSource<T> implements ChunkSource<T> {
+
+    private final List<T> beans;
+    private final ChunkSizer sizer;
+    private int chunks;
+    private int from;
+
+    ListSource(List<T> beans, ChunkSizer sizer) {
+      this.beans = beans;
+      this.sizer = sizer;
+    }
+
+    @Override
+    public synchronized Chunk<T> next() {
+      if (from >= beans.size()) {
+        return null;
+      }
+      // long arithmetic, so we don't overflow if the chunk size is huge
+      int to = (int) Math.min(beans.size(), (long) from + sizer.size());
+      Chunk<T> chunk = new Chunk<>(chunks++, from, beans.subList(from, to));
+      from = to;
+      return chunk;
+    }
+
+    @Override
+    public ChunkSizer sizer() {
+      return sizer;
+    }
+
+    @Override
+    public synchronized int chunks() {
+      return chunks;
+    }
+  }
+
+  private final class IteratorSource implements ChunkSource<T> {
+
+    private final Iterator<T> beans;
+    private final ChunkSizer sizer;
+    private int chunks;
+    private long count;
+
+    IteratorSource(Iterator<T> beans, ChunkSizer sizer) {
+      this.beans = beans;
+      this.sizer = sizer;
+    }
+
+    @Override
+    public synchronized Chunk<T> next() {
+      if (!beans.hasNext()) {
+        return null;
+      }
+      int chunkSize = sizer.size();
+      List<T> chunk = new ArrayList<>(chunkSize);
+      do {
+        chunk.add(beans.next());
+      } while (chunk.size() < chunkSize && beans.hasNext());
+      // NB ChunkResult indices wrap beyond Integer.MAX_VALUE beans; the count won't
+      Chunk<T> c = new Chunk<>(chunks++, (int) count, chunk);
+      count += chunk.size();
+      return c;
+    }
+
+    @Override
+    public ChunkSizer sizer() {
+      return sizer;
+    }
+
+    @Override
+    public synchronized int chunks() {
+      return chunks;
     }
-    return allKeys;
   }
 
-  private void insertBatchAndSetIDs(List<T> beans, String idProperty, int chunkSize) {
-    for (int i = 0; i < beans.size(); i += chunkSize) {
-      int j = Math.min(beans.size(), i + chunkSize);
+  private void insertChunks(List<T> beans,
+        ChunkSizer sizer,
+        int autoGeneratedKeys,
+        KeyHandler<T> handler) {
+    int chunkSize = sizer.size();
+    int chunks = (int) (((long) beans.size() + chunkSize - 1) / chunkSize);
+    int workers = Math.min(cfg.parallelism(), chunks);
+    insertChunks(new ListSource<>(beans, sizer), workers, autoGeneratedKeys, handler);
+  }
+
+  private void insertChunks(ChunkSource<T> source,
+        int workers,
+        int autoGeneratedKeys,
+        KeyHandler<T> handler) {
+    if (cfg.dataSource() == null) {
+      try (ChunkInserter inserter = new ChunkInserter(cfg.connection(),
+            false,
+            autoGeneratedKeys)) {
+        insertChunks(inserter, source, handler, t -> {
+          throw Utils.wrap(t);
+        });
+      }
+    } else {
+      insertChunksInParallel(source, workers, autoGeneratedKeys, handler);
+    }
+  }
+
+  // Distributes the chunks over worker threads, each with its own connection. Workers
+  // claim chunks from the shared ChunkSource until there are none left. A failed chunk
+  // does not stop the other chunks from being saved.
+  private void insertChunksInParallel(ChunkSource<T> source,
+        int workers,
+        int autoGeneratedKeys,
+        KeyHandler<T> handler) {
+    // Acquire all connections up front, so that we either save all chunks or none
+    List<ChunkInserter> inserters = new ArrayList<>(workers);
+    try {
+      for (int i = 0; i < workers; ++i) {
+        Connection con = cfg.dataSource().getConnection();
+        inserters.add(new ChunkInserter(con, true, autoGeneratedKeys));
+      }
+    } catch (Throwable t) {
+      inserters.forEach(ChunkInserter::close);
+      throw Utils.wrap(t);
+    }
+    Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (ChunkInserter inserter : inserters) {
+        executor.execute(() -> {
+          try (inserter) {
+            insertChunks(inserter, source, handler, errors::add);
+          } catch (Throwable t) {
+            // E.g. a failing chunk listener. Don't let it disappear into the thread's
+            // uncaught exception handler.
+            errors.add(Utils.wrap(t));
+          }
+        });
+      }
+    }
+    if (!errors.isEmpty()) {
+      String fmt = "%d error(s) while saving %d chunks";
+      DatabaseException exc = new DatabaseException(String.format(fmt,
+            errors.size(),
+            source.chunks()));
+      errors.forEach(exc::addSuppressed);
+      throw exc;
+    }
+  }
+
+  // Saves chunks using the specified ChunkInserter until the source is exhausted. Errors
+  // are passed on to the specified error handler. If the handler throws the error, no
+  // more chunks are saved.
+  private void insertChunks(ChunkInserter inserter,
+        ChunkSource<T> source,
+        KeyHandler<T> handler,
+        Consumer<Throwable> errors) {
+    if (cfg.pipelineDepth() != 0) {
+      insertChunksPipelined(inserter, source, handler, errors);
+      return;
+    }
+    for (Chunk<T> chunk = next(source, errors); chunk != null; ) {
+      List<T> beans = chunk.beans();
+      Throwable t = insertChunk(chunk,
+            source.sizer(),
+            handler,
+            () -> inserter.insert(beans));
+      if (t != null) {
+        errors.accept(t);
+      }
+      chunk = next(source, errors);
+    }
+  }
+
+  // A chunk that is ready to be executed. The payload is either a String (the SQL) or
+  // an Object[][] (the values to bind). If error is not null, the chunk could not be
+  // prepared. If both chunk and error are null, we have reached the end of the source.
+  private record PreparedChunk<T>(Chunk<T> chunk, Object payload, Throwable error) { }
+
+  // Prepares the chunks on a separate (virtual) thread, so that the next chunk is
+  // prepared while the current chunk is being executed. The queue caps how far the
+  // preparing thread can get ahead.
+  private void insertChunksPipelined(ChunkInserter inserter,
+        ChunkSource<T> source,
+        KeyHandler<T> handler,
+        Consumer<Throwable> errors) {
+    BlockingQueue<PreparedChunk<T>> queue = new ArrayBlockingQueue<>(cfg.pipelineDepth());
+    Statement quoting;
+    try {
+      // Only used for enquoteLiteral() & co., which do not send anything to the database
+      quoting = inserter.con.createStatement();
+    } catch (SQLException e) {
+      throw Utils.wrap(e);
+    }
+    Thread producer = Thread.ofVirtual().start(() -> {
       try {
-        insertChunkAndSetIDs(beans.subList(i, j), idProperty);
-      } catch (Throwable t) {
-        throw Utils.wrap(t);
+        prepareChunks(inserter, source, quoting, queue);
+      } catch (InterruptedException e) {
+        // The executing thread has given up
       }
+    });
+    try {
+      while (true) {
+        PreparedChunk<T> pc = queue.take();
+        if (pc.chunk() == null) {
+          if (pc.error() != null) {
+            errors.accept(pc.error());
+          }
+          break;
+        }
+        Throwable t = insertChunk(pc.chunk(), source.sizer(), handler, () -> {
+          if (pc.error() != null) {
+            throw pc.error();
+          }
+          return inserter.execute(pc.chunk().beans(), pc.payload());
+        });
+        if (t != null) {
+          errors.accept(t);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw Utils.wrap(e);
+    } finally {
+      producer.interrupt();
+      try {
+        producer.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      close(quoting);
     }
   }
 
-  private void insertChunk(List<T> beans) throws Throwable {
-    StringBuilder sql = new StringBuilder(guessSize(beans));
-    sql.append(sqlBase);
-    try (Statement stmt = cfg.connection().createStatement()) {
-      addRows(sql, stmt, beans);
-      String s = sql.toString();
-      LOG.trace(EXECUTING_SQL, s);
-      stmt.executeUpdate(s, NO_GENERATED_KEYS);
+  // Runs on the preparing thread. Always ends with a PreparedChunk without a chunk,
+  // which carries the exception thrown by the source, if any.
+  private void prepareChunks(ChunkInserter inserter,
+        ChunkSource<T> source,
+        Statement quoting,
+        BlockingQueue<PreparedChunk<T>> queue) throws InterruptedException {
+    Throwable error = null;
+    try {
+      for (Chunk<T> chunk = source.next(); chunk != null; chunk = source.next()) {
+        PreparedChunk<T> pc;
+        try {
+          pc = new PreparedChunk<>(chunk, inserter.prepare(chunk.beans(), quoting), null);
+        } catch (Throwable t) {
+          pc = new PreparedChunk<>(chunk, null, Utils.wrap(t));
+        }
+        queue.put(pc);
+      }
+    } catch (InterruptedException e) {
+      throw e;
+    } catch (Throwable t) {
+      error = Utils.wrap(t);
     }
-    commit();
+    queue.put(new PreparedChunk<>(null, null, error));
   }
 
-  private long[] insertChunkAndGetIDs(List<T> beans) throws Throwable {
-    long[] keys;
-    StringBuilder sql = new StringBuilder(guessSize(beans));
-    sql.append(sqlBase);
-    try (Statement stmt = cfg.connection().createStatement()) {
-      addRows(sql, stmt, beans);
-      String s = sql.toString();
-      LOG.trace(EXECUTING_SQL, s);
-      stmt.executeUpdate(s, RETURN_GENERATED_KEYS);
-      keys = JDBC.getGeneratedKeys(stmt, beans.size());
+  // An exception thrown while pulling beans from the source (e.g. by an Iterator) ends
+  // the worker, but does not go unreported.
+  private static <T> Chunk<T> next(ChunkSource<T> source, Consumer<Throwable> errors) {
+    try {
+      return source.next();
+    } catch (Throwable t) {
+      errors.accept(Utils.wrap(t));
+      return null;
     }
-    commit();
-    return keys;
   }
 
-  private void insertChunkAndSetIDs(List<T> beans, String idProperty) throws Throwable {
-    StringBuilder sql = new StringBuilder(guessSize(beans));
-    sql.append(sqlBase);
-    try (Statement stmt = cfg.connection().createStatement()) {
-      addRows(sql, stmt, beans);
-      String s = sql.toString();
-      LOG.trace(EXECUTING_SQL, s);
-      stmt.executeUpdate(s, RETURN_GENERATED_KEYS);
-      long[] keys = JDBC.getGeneratedKeys(stmt, beans.size());
-      Utils.check(keys.length).isNot(zero(), NO_KEYS_WERE_GENERATED);
-      for (int i = 0; i < keys.length; ++i) {
-        JDBC.setID(beans.get(i), idProperty, keys[i]);
+  @FunctionalInterface
+  private interface ChunkAction {
+    // Returns the generated keys, or null if no keys were requested
+    long[] run() throws Throwable;
+  }
+
+  // Returns the exception that caused the chunk to fail, or null if it was saved
+  private Throwable insertChunk(Chunk<T> chunk,
+        ChunkSizer sizer,
+        KeyHandler<T> handler,
+        ChunkAction action) {
+    Throwable error = null;
+    try {
+      long start = System.nanoTime();
+      long[] keys = action.run();
+      sizer.chunkSaved(chunk.beans().size(), System.nanoTime() - start);
+      handler.accept(chunk.beans(), chunk.from(), keys);
+    } catch (Throwable t) {
+      error = Utils.wrap(t);
+    }
+    if (cfg.listener() != null) {
+      int to = chunk.from() + chunk.beans().size();
+      cfg.listener().accept(new ChunkResult(chunk.number(), chunk.from(), to, error));
+    }
+    return error;
+  }
+
+  // Saves chunks of beans using a single connection. Not thread-safe; in parallel mode
+  // each worker thread has its own ChunkInserter. In pipelined mode, prepare() is
+  // called from another thread than execute(), but prepare() only touches the reader,
+  // the processor and the (immutable) fields of the enclosing BatchInsert.
+  private final class ChunkInserter implements AutoCloseable {
+
+    private final Connection con;
+    private final boolean ownsConnection;
+    private final int autoGeneratedKeys;
+    // The parameterized INSERT statements, one per distinct chunk size. Normally there
+    // are at most two: one for the full-sized chunks and one for the last chunk. If we
+    // do not own the connection, they are leased from the connection's statement cache,
+    // and returned to it when we are done, so the next call can reuse them.
+    private final Map<Integer, PreparedStatement> stmts;
+    private final RowBinder rowBinder;
+
+    ChunkInserter(Connection con, boolean ownsConnection, int autoGeneratedKeys) {
+      this.con = con;
+      this.ownsConnection = ownsConnection;
+      this.autoGeneratedKeys = autoGeneratedKeys;
+      if (cfg.parameterized()) {
+        this.stmts = new HashMap<>(4);
+        this.rowBinder = new RowBinder(props.length);
+      } else {
+        this.stmts = null;
+        this.rowBinder = null;
+      }
+    }
+
+    // Returns the generated keys, or null if no keys were requested
+    long[] insert(List<T> beans) throws Throwable {
+      long[] keys = stmts == null ? insertLiterals(beans) : insertParameterized(beans);
+      commit();
+      return keys;
+    }
+
+    // Converts the beans to the SQL to execute (literal mode) or to the values to bind
+    // (parameterized mode), without touching the database.
+    Object prepare(List<T> beans, Statement quoting) throws Throwable {
+      if (stmts == null) {
+        return toSQL(beans, quoting);
+      }
+      Quoter quoter = new Quoter(quoting);
+      Object[][] rows = new Object[beans.size()][];
+      for (int i = 0; i < rows.length; ++i) {
+        rows[i] = toRow(beans.get(i), quoter, new Object[props.length]);
+      }
+      return rows;
+    }
+
+    // Executes a chunk prepared by prepare(). Returns the generated keys, or null if no
+    // keys were requested.
+    long[] execute(List<T> beans, Object prepared) throws Throwable {
+      long[] keys;
+      if (stmts == null) {
+        try (Statement stmt = con.createStatement()) {
+          keys = executeLiterals(stmt, (List<LiteralInsert>) prepared);
+        }
+      } else {
+        PreparedStatement ps = getPreparedStatement(beans.size());
+        Object[][] rows = (Object[][]) prepared;
+        for (int i = 0; i < rows.length; ++i) {
+          rowBinder.bind(ps, i, rows[i]);
+        }
+        keys = executeParameterized(ps, beans.size());
+      }
+      commit();
+      return keys;
+    }
+
+    private void commit() throws SQLException {
+      if (cfg.commitPerChunk() && !con.getAutoCommit()) {
+        con.commit();
+      }
+    }
+
+    private long[] insertLiterals(List<T> beans) throws Throwable {
+      try (Statement stmt = con.createStatement()) {
+        return executeLiterals(stmt, toSQL(beans, stmt));
+      }
+    }
+
+    private long[] executeLiterals(Statement stmt, List<LiteralInsert> inserts)
+          throws Throwable {
+      if (inserts.size() == 1) {
+        return executeLiteral(stmt, inserts.getFirst());
+      }
+      List<long[]> keys = new ArrayList<>(inserts.size());
+      for (LiteralInsert insert : inserts) {
+        keys.add(executeLiteral(stmt, insert));
+      }
+      if (autoGeneratedKeys != RETURN_GENERATED_KEYS) {
+        return null;
+      }
+      long[] all = new long[keys.stream().mapToInt(k -> k.length).sum()];
+      int i = 0;
+      for (long[] k : keys) {
+        System.arraycopy(k, 0, all, i, k.length);
+        i += k.length;
+      }
+      return all;
+    }
+
+    private long[] executeLiteral(Statement stmt, LiteralInsert insert) throws Throwable {
+      LOG.trace(EXECUTING_SQL, insert.sql());
+      stmt.executeUpdate(insert.sql(), autoGeneratedKeys);
+      return autoGeneratedKeys == RETURN_GENERATED_KEYS
+            ? JDBC.getGeneratedKeys(stmt, insert.rows())
+            : null;
+    }
+
+    private long[] insertParameterized(List<T> beans) throws Throwable {
+      PreparedStatement ps = getPreparedStatement(beans.size());
+      bindRows(ps, beans);
+      return executeParameterized(ps, beans.size());
+    }
+
+    private PreparedStatement getPreparedStatement(int rows) throws SQLException {
+      PreparedStatement ps = stmts.get(rows);
+      if (ps == null) {
+        String sql = getParameterizedSQL(rows);
+        LOG.trace(EXECUTING_SQL, sql);
+        ps = ownsConnection
+              ? con.prepareStatement(sql, autoGeneratedKeys)
+              : StatementCache.get(con,
+                    sql,
+                    autoGeneratedKeys == RETURN_GENERATED_KEYS,
+                    STATEMENT_CACHE_SIZE);
+        stmts.put(rows, ps);
+      } else {
+        ps.clearParameters();
+      }
+      return ps;
+    }
+
+    private long[] executeParameterized(PreparedStatement ps, int rows) throws Throwable {
+      ps.executeUpdate();
+      return autoGeneratedKeys == RETURN_GENERATED_KEYS
+            ? JDBC.getGeneratedKeys(ps, rows)
+            : null;
+    }
+
+    private void bindRows(PreparedStatement ps, List<T> beans) throws Throwable {
+      Quoter quoter = new Quoter(ps);
+      Object[] row = new Object[props.length];
+      int i = 0;
+      for (T bean : beans) {
+        rowBinder.bind(ps, i++, toRow(bean, quoter, row));
       }
     }
-    commit();
+
+    @Override
+    public void close() {
+      if (stmts != null) {
+        for (PreparedStatement ps : stmts.values()) {
+          if (!StatementCache.release(ps)) {
+            BatchInsert.close(ps);
+          }
+        }
+      }
+      if (ownsConnection) {
+        try {
+          con.close();
+        } catch (SQLException e) {
+          // ...
+        }
+      }
+    }
+  }
+
+  private Object[] toRow(T bean, Quoter quoter, Object[] row) {
+    BatchInsertConfig<T> cfg = this.cfg;
+    List<Object> values = cfg.reader().readAllProperties(bean);
+    for (int j = 0; j < props.length; ++j) {
+      row[j] = cfg.processor().process(bean, props[j], values.get(j), quoter);
+      Utils.check(row[j]).isNot(instanceOf(),
+            SQLExpression.class,
+            CANNOT_BIND_SQL_EXPRESSION,
+            props[j]);
+    }
+    return row;
   }
 
-  private void addRows(StringBuilder sql, Statement stmt, List<T> beans) {
-    int i = 0;
+  // A single INSERT statement with literal values, and the number of rows it inserts
+  private record LiteralInsert(String sql, int rows) { }
+
+  // Converts the beans to INSERT statements with literal values. Unless a maximum
+  // statement size was specified, there will be just one statement. Otherwise, a new
+  // statement is started whenever the next row would push the current statement beyond
+  // the maximum size. A row that by itself exceeds the maximum size still gets saved,
+  // but in a statement of its own.
+  private List<LiteralInsert> toSQL(List<T> beans, Statement stmt) {
+    int maxSize = cfg.maxStatementSize();
+    StringBuilder sql = new StringBuilder(guessSize(beans.size()));
+    sql.append(sqlBase);
+    List<LiteralInsert> inserts = new ArrayList<>(1);
+    int rows = 0;
     for (T bean : beans) {
-      if (i++ > 0) {
+      int mark = sql.length();
+      if (rows > 0) {
         sql.append(',');
       }
       addRow(sql, stmt, bean);
+      if (maxSize != -1 && sql.length() > maxSize && rows > 0) {
+        String row = sql.substring(mark + 1);
+        sql.setLength(mark);
+        inserts.add(newInsert(sql, rows));
+        sql.setLength(sqlBase.length());
+        sql.append(row);
+        rows = 0;
+      }
+      ++rows;
     }
+    inserts.add(newInsert(sql, rows));
+    return inserts;
+  }
+
+  private LiteralInsert newInsert(StringBuilder sql, int rows) {
+    // Remember the average row length, so we can size the next StringBuilder properly
+    rowLength = (sql.length() - sqlBase.length()) / rows + 1;
+    return new LiteralInsert(sql.toString(), rows);
   }
 
   private void addRow(StringBuilder sql, Statement stmt, T bean) {
@@ -221,9 +816,24 @@ public final class BatchInsert<T> {
     sql.append(')');
   }
 
-  private void commit() throws SQLException {
-    if (cfg.commitPerChunk() && !cfg.connection().getAutoCommit()) {
-      cfg.connection().commit();
+  private String getParameterizedSQL(int rows) {
+    StringBuilder sb = new StringBuilder(sqlBase.length() + rows * (props.length * 2 + 2));
+    sb.append(sqlBase);
+    for (int i = 0; i < rows; ++i) {
+      sb.append(i == 0 ? "(" : ",(");
+      for (int j = 0; j < props.length; ++j) {
+        sb.append(j == 0 ? "?" : ",?");
+      }
+      sb.append(')');
+    }
+    return sb.toString();
+  }
+
+  private static void close(Statement stmt) {
+    try {
+      stmt.close();
+    } catch (SQLException e) {
+      // ...
     }
   }
 
@@ -234,8 +844,13 @@ public final class BatchInsert<T> {
     return sb.toString();
   }
 
-  private int guessSize(List<T> beans) {
-    return 50 + (props.length * beans.size() * 12);
+  private int guessSize(int rows) {
+    long size = sqlBase.length() + (long) rows * rowLength;
+    if (cfg.maxStatementSize() != -1) {
+      // Leave room for the row that makes us go over the maximum
+      size = Math.min(size, cfg.maxStatementSize() + 2L * rowLength);
+    }
+    return (int) Math.min(size, Integer.MAX_VALUE - 8);
   }
 
 }
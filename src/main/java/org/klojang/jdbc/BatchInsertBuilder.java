@@ -7,16 +7,22 @@ import org.klojang.jdbc.x.sql.BatchInsertConfig;
 import org.klojang.templates.NameMapper;
 import org.klojang.templates.name.CamelCaseToSnakeUpperCase;
 
+import javax.sql.DataSource;
 import java.sql.Connection;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import static org.klojang.check.CommonChecks.*;
 import static org.klojang.check.CommonExceptions.STATE;
 import static org.klojang.invoke.IncludeExclude.EXCLUDE;
 import static org.klojang.invoke.IncludeExclude.INCLUDE;
 import static org.klojang.jdbc.x.Strings.CLAZZ;
+import static org.klojang.jdbc.x.Strings.DATA_SOURCE;
+import static org.klojang.jdbc.x.Strings.LISTENER;
 import static org.klojang.jdbc.x.Strings.PROCESSOR;
+import static org.klojang.jdbc.x.Strings.TARGET_CHUNK_TIME;
 import static org.klojang.templates.name.CamelCaseToSnakeUpperCase.camelCaseToSnakeUpperCase;
 import static org.klojang.util.ArrayMethods.EMPTY_STRING_ARRAY;
 
@@ -27,13 +33,22 @@ import static org.klojang.util.ArrayMethods.EMPTY_STRING_ARRAY;
 @SuppressWarnings({"rawtypes", "unchecked"})
 public final class BatchInsertBuilder {
 
+  private static final String COMMIT_PER_CHUNK_REQUIRED
+        = "commit per chunk cannot be disabled when saving beans using a DataSource";
+
   private BeanValueProcessor processor = BeanValueProcessor.identity();
   private IncludeExclude includeExclude = INCLUDE;
   private String[] properties = EMPTY_STRING_ARRAY;
   private NameMapper nameMapper = camelCaseToSnakeUpperCase();
   private final Map<String, String> mappingOverrides = new HashMap<>();
   private int chunkSize = -1;
+  private int maxStatementSize = -1;
+  private Duration targetChunkTime;
   boolean commitPerChunk = true;
+  private boolean parameterized = false;
+  private int parallelism = 1;
+  private int pipelineDepth = 0;
+  private Consumer<ChunkResult> listener;
 
   private Class clazz;
   private String tableName;
@@ -98,7 +113,9 @@ public final class BatchInsertBuilder {
   /**
    * Sets the number of beans that will be saved at a time. If specified, batches will be
    * split into sublists of the specified size. By default the entire batch will be saved
-   * at once. Make sure this does not exceed the limits of your database or JDBC driver.
+   * at once, except in {@linkplain #withParameterizedValues(boolean) parameterized mode},
+   * where chunks are kept below {@value BatchInsert#DEFAULT_MAX_PARAMETERS} parameters.
+   * Make sure this does not exceed the limits of your database or JDBC driver.
    *
    * @param chunkSize the number of beans that will be saved at a time
    * @return this {@code BatchInsertBuilder}
@@ -108,6 +125,52 @@ public final class BatchInsertBuilder {
     return this;
   }
 
+  /**
+   * Sets the maximum size of a single INSERT statement, measured as the length of the
+   * SQL string. If the SQL for a chunk would exceed this size, the chunk is saved using
+   * multiple, smaller INSERT statements, each staying within the limit. The chunk remains
+   * the unit of work: it is still committed as a whole, and reported as a whole to the
+   * {@linkplain #withChunkListener(Consumer) chunk listener}. Use this to stay clear of
+   * the maximum statement or packet size of your database (e.g. MySQL's
+   * {@code max_allowed_packet}) if the width of the rows varies. Note that the length of
+   * the SQL string may be less than its size in bytes if it contains non-ASCII
+   * characters, so leave some headroom. A row that by itself exceeds the maximum size is
+   * still saved, but in a statement of its own. Only applies to the default mode, where
+   * values are embedded as literals (see {@link #withParameterizedValues(boolean)}). By
+   * default, there is no maximum size.
+   *
+   * @param maxStatementSize the maximum length of an INSERT statement
+   * @return this {@code BatchInsertBuilder}
+   */
+  public BatchInsertBuilder withMaxStatementSize(int maxStatementSize) {
+    this.maxStatementSize = Check.that(maxStatementSize).is(gt(), 0).ok();
+    return this;
+  }
+
+  /**
+   * Lets the {@code BatchInsert} adapt the chunk size to the time it takes to save a
+   * chunk. Saving starts with chunks of
+   * {@value BatchInsert#DEFAULT_STREAMING_CHUNK_SIZE} beans (or the
+   * {@linkplain #withChunkSize(int) chunk size}, if smaller). Whenever saving a chunk
+   * takes more than twice the specified time, the chunk size is halved. Whenever it takes
+   * less than half the specified time, the chunk size is doubled. The chunk size
+   * specified via {@link #withChunkSize(int) withChunkSize()} then becomes the maximum
+   * chunk size. The chunk size is tracked per call to
+   * {@link BatchInsert#insertBatch(java.util.List) insertBatch()},
+   * {@link BatchInsert#insertAll(java.util.Iterator) insertAll()}, etc. By default, the
+   * chunk size is fixed.
+   *
+   * @param targetChunkTime the time it should take to save a single chunk
+   * @return this {@code BatchInsertBuilder}
+   */
+  public BatchInsertBuilder withAdaptiveChunkSize(Duration targetChunkTime) {
+    Check.notNull(targetChunkTime, TARGET_CHUNK_TIME)
+          .isNot(Duration::isNegative)
+          .isNot(Duration::isZero);
+    this.targetChunkTime = targetChunkTime;
+    return this;
+  }
+
   /**
    * Specifies whether to issue a database commit directly after a chunk of beans has been
    * saved to the database. If not, you must issue the commits yourself, if and when
@@ -122,6 +185,87 @@ public final class BatchInsertBuilder {
     return this;
   }
 
+  /**
+   * Specifies whether to insert the beans using a parameterized multi-row INSERT
+   * statement ({@code INSERT INTO ... VALUES (?,?),(?,?),...}) rather than a statement
+   * in which all values are embedded as (quoted and escaped) literals. The parameterized
+   * statement is prepared once per distinct chunk size and then reused for all chunks of
+   * that size, so the database can reuse its execution plan, and the values need not be
+   * converted to SQL literals. For a {@code BatchInsert} created using
+   * {@link #prepare(Connection) prepare(Connection)}, the statements remain open between
+   * calls, so subsequent calls reuse them as well. (A {@code BatchInsert} created using
+   * {@link #prepare(DataSource) prepare(DataSource)} prepares them once per call and
+   * connection.) By default, values are embedded as literals. Note that the total number
+   * of parameters in a chunk (chunk size times number of columns) must not exceed the
+   * limits of your database or JDBC driver. If no
+   * {@linkplain #withChunkSize(int) chunk size} is specified, chunks are kept below
+   * {@value BatchInsert#DEFAULT_MAX_PARAMETERS} parameters. In parameterized mode, the
+   * {@link #withValueProcessor(BeanValueProcessor) BeanValueProcessor} must not return
+   * {@link SQLExpression} objects.
+   *
+   * @param parameterized whether to use a parameterized multi-row INSERT statement
+   * @return this {@code BatchInsertBuilder}
+   */
+  public BatchInsertBuilder withParameterizedValues(boolean parameterized) {
+    this.parameterized = parameterized;
+    return this;
+  }
+
+  /**
+   * Sets the number of chunks that will be saved concurrently, each on its own
+   * connection and in its own (virtual) thread. Only applies to {@code BatchInsert}
+   * instances created using {@link #prepare(DataSource) prepare(DataSource)}. Defaults
+   * to 1. Make sure the {@code DataSource} can supply the specified number of connections
+   * simultaneously. Each chunk is committed separately, so, unlike with a sequential
+   * batch insert, a failed chunk does not prevent other chunks from being saved. If one
+   * or more chunks fail, a {@link DatabaseException} is thrown once all chunks have been
+   * processed, with the exceptions for the individual chunks attached as suppressed
+   * exceptions. Use a {@linkplain #withChunkListener(Consumer) chunk listener} to find
+   * out which chunks failed.
+   *
+   * @param parallelism the number of chunks that will be saved concurrently
+   * @return this {@code BatchInsertBuilder}
+   */
+  public BatchInsertBuilder withParallelism(int parallelism) {
+    this.parallelism = Check.that(parallelism).is(gt(), 0).ok();
+    return this;
+  }
+
+  /**
+   * Enables pipelining and sets the maximum number of chunks that may be waiting to be
+   * executed. In pipelined mode, a separate (virtual) thread reads the beans and
+   * converts them to SQL (or, in {@linkplain #withParameterizedValues(boolean)
+   * parameterized mode}, to parameter values) while the previous chunk is being
+   * executed. This hides most of the client-side processing cost behind the round trip
+   * to the database, which especially pays off if the database is far away. The
+   * prepared chunks are handed off to the executing thread via a queue with the
+   * specified capacity, so the preparing thread never gets more than
+   * {@code pipelineDepth} chunks ahead. Defaults to 0, meaning no pipelining. A depth
+   * of 1 or 2 usually suffices. In parallel mode (see {@link #withParallelism(int)}),
+   * each worker thread gets its own pipeline.
+   *
+   * @param pipelineDepth the maximum number of prepared chunks waiting to be executed,
+   *       or 0 to disable pipelining
+   * @return this {@code BatchInsertBuilder}
+   */
+  public BatchInsertBuilder withPipelineDepth(int pipelineDepth) {
+    this.pipelineDepth = Check.that(pipelineDepth).is(gte(), 0).ok();
+    return this;
+  }
+
+  /**
+   * Specifies a listener that will be notified whenever a chunk of beans has been saved,
+   * or has failed to be saved. In parallel mode (see {@link #withParallelism(int)}), the
+   * listener will be called from multiple threads, so it must be thread-safe.
+   *
+   * @param listener the listener
+   * @return this {@code BatchInsertBuilder}
+   */
+  public BatchInsertBuilder withChunkListener(Consumer<ChunkResult> listener) {
+    this.listener = Check.notNull(listener, LISTENER).ok();
+    return this;
+  }
+
   /**
    * Specifies the {@code BeanValueProcessor} to use to selectively convert values in bean
    * batches. If not specified, {@link BeanValueProcessor#identity()} is used. This
@@ -182,6 +326,29 @@ public final class BatchInsertBuilder {
    */
   public <T> BatchInsert<T> prepare(Connection con) {
     Check.notNull(con);
+    return prepare(con, null);
+  }
+
+  /**
+   * Creates and returns a {@code BatchInsert} instance that obtains its connections from
+   * the specified {@code DataSource}. The {@code BatchInsert} saves up to
+   * {@linkplain #withParallelism(int) parallelism} chunks concurrently, each on its own
+   * connection. The connections are closed once the batch has been saved. Since the
+   * connections do not outlive the batch, you cannot
+   * {@linkplain #withCommitPerChunk(boolean) disable} the commit per chunk.
+   *
+   * @param dataSource the {@code DataSource} that supplies the connections
+   * @param <T> the type of the beans or records to be persisted by the
+   *       {@code BatchInsert} instance
+   * @return a {@code BatchInsert} instance
+   */
+  public <T> BatchInsert<T> prepare(DataSource dataSource) {
+    Check.notNull(dataSource, DATA_SOURCE);
+    Check.on(STATE, commitPerChunk).is(yes(), COMMIT_PER_CHUNK_REQUIRED);
+    return prepare(null, dataSource);
+  }
+
+  private <T> BatchInsert<T> prepare(Connection con, DataSource dataSource) {
     Check.on(STATE, clazz, CLAZZ).is(notNull());
     BeanReader reader = new BeanReader<>(clazz, includeExclude, properties);
     if (!mappingOverrides.isEmpty()) {
@@ -196,7 +363,14 @@ public final class BatchInsertBuilder {
           nameMapper,
           tableName,
           chunkSize,
-          commitPerChunk);
+          maxStatementSize,
+          targetChunkTime,
+          commitPerChunk,
+          parameterized,
+          dataSource,
+          parallelism,
+          pipelineDepth,
+          listener);
     return new BatchInsert<>(cfg);
   }
 
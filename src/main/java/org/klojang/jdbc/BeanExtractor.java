@@ -3,6 +3,9 @@ package org.klojang.jdbc;
 import java.sql.ResultSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
 
 /**
  * <p>Converts the rows in a JDBC {@link ResultSet} into JavaBeans, records or
@@ -124,6 +127,43 @@ public sealed interface BeanExtractor<T> extends Iterable<T>
    */
   List<T> extractAll(int sizeEstimate);
 
+  /**
+   * Returns a sequential, lazily populated {@code Stream} of beans. Rows are read from
+   * the {@code ResultSet} and converted one at a time, as the stream is traversed, so no
+   * intermediate {@code List} is created. Closing the stream does not close the
+   * {@code ResultSet}.
+   *
+   * @return a {@code Stream} of beans
+   */
+  Stream<T> stream();
+
+  /**
+   * Converts all remaining rows in the {@code ResultSet} into beans and passes them to
+   * the specified consumer, one at a time. No intermediate {@code List} is created.
+   *
+   * @param action the consumer of the beans
+   */
+  @Override
+  void forEach(Consumer<? super T> action);
+
+  /**
+   * Converts all remaining rows in the {@code ResultSet} into beans and feeds them into
+   * the specified {@code Collector}, one at a time. No intermediate {@code List} is
+   * created. For example, to group the remaining rows by department in a single pass
+   * over the {@code ResultSet}:
+   *
+   * <blockquote><pre>{@code
+   * Map<Integer, List<Employee>> byDept = extractor.collect(
+   *     Collectors.groupingBy(Employee::getDepartmentId));
+   * }</pre></blockquote>
+   *
+   * @param collector the {@code Collector}
+   * @param <A> the mutable accumulation type of the {@code Collector}
+   * @param <R> the result type of the {@code Collector}
+   * @return the result of the {@code Collector}
+   */
+  <A, R> R collect(Collector<? super T, A, R> collector);
+
   /**
    * Returns {@code true} if the end of the {@code ResultSet} has been reached;
    * {@code false} otherwise.
@@ -1,56 +1,51 @@
 package org.klojang.jdbc;
 
-import org.klojang.jdbc.x.rs.PropertyWriter;
+import org.klojang.jdbc.x.LRUCache;
+import org.klojang.jdbc.x.rs.BeanWriter;
+import org.klojang.jdbc.x.rs.BeanWriterFactory;
 import org.klojang.jdbc.x.rs.RecordFactory;
 
 import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.function.Supplier;
-
-import static org.klojang.jdbc.x.rs.PropertyWriter.createWriters;
 
 /**
- * Not currently used, because in the end we thought it would make the extractor retrieval
- * mechanism too expensive. We keep it around though, because it is both more elegant and
- * more idiot-proof than what we currently have. Maybe we change our minds.
+ * Process-wide cache of extraction plans for JavaBeans and records. A plan is identified
+ * by the bean class, the {@link SessionConfig}, and the shape of the {@code ResultSet}
+ * (see {@link ResultSetId}). Thus, plans are shared among all {@link SQL} instances and
+ * {@link BeanExtractorFactory} instances that convert the same type of rows into the
+ * same type of beans, and a {@code BeanExtractorFactory} that is fed result sets with
+ * different columns (as may happen with SQL templates) gets a correct plan for each of
+ * them.
  */
-@SuppressWarnings({"rawtypes", "unchecked", "unused"})
+@SuppressWarnings({"rawtypes", "unchecked"})
 final class BeanExtractorCache {
 
+  private static final int MAX_SIZE = 512;
+
   private record BeanExtractorId(Class<?> clazz,
         SessionConfig config,
         ResultSetId resultSetId) { }
 
-  private final Map<BeanExtractorId, PropertyWriter<?,?>[]> cache0 = new HashMap<>();
-  private final Map<BeanExtractorId, RecordFactory<?>> cache1 = new HashMap<>();
+  private static final LRUCache<BeanExtractorId, BeanWriter> writers
+        = new LRUCache<>(MAX_SIZE);
+  private static final LRUCache<BeanExtractorId, RecordFactory<?>> factories
+        = new LRUCache<>(MAX_SIZE);
+
+  private BeanExtractorCache() { throw new UnsupportedOperationException(); }
 
-  <T> BeanExtractor<T> getBeanExtractor(Class<T> clazz,
+  static BeanWriter getBeanWriter(Class<?> clazz,
         SessionConfig config,
-        ResultSet rs,
-        Supplier<T> supplier) throws SQLException {
-    ResultSetId resultSetId = new ResultSetId(rs);
-    BeanExtractorId extractorId = new BeanExtractorId(clazz, config, resultSetId);
-    PropertyWriter<?,?>[] writers = cache0.get(extractorId);
-    if (writers == null) {
-      writers = createWriters(rs, clazz, config);
-      cache0.put(extractorId, writers);
-    }
-    return new DefaultBeanExtractor<>(rs, writers, supplier);
+        ResultSetId resultSetId,
+        ResultSet rs) {
+    BeanExtractorId id = new BeanExtractorId(clazz, config, resultSetId);
+    return writers.get(id, k -> BeanWriterFactory.getBeanWriter(rs, clazz, config));
   }
 
-  <T> BeanExtractor<T> getRecordExtractor(Class<T> clazz,
+  static RecordFactory<?> getRecordFactory(Class<?> clazz,
         SessionConfig config,
-        ResultSet rs) throws SQLException {
-    ResultSetId resultSetId = new ResultSetId(rs);
-    BeanExtractorId extractorId = new BeanExtractorId(clazz, config, resultSetId);
-    RecordFactory<?> factory = cache1.get(extractorId);
-    if (factory == null) {
-      factory = new RecordFactory(clazz, rs, config);
-      cache1.put(extractorId, factory);
-    }
-    return (BeanExtractor<T>) new RecordExtractor<>(rs, factory);
+        ResultSetId resultSetId,
+        ResultSet rs) {
+    BeanExtractorId id = new BeanExtractorId(clazz, config, resultSetId);
+    return factories.get(id, k -> new RecordFactory(clazz, rs, config));
   }
 
 }
@@ -2,37 +2,39 @@ package org.klojang.jdbc;
 
 import org.klojang.check.Check;
 import org.klojang.check.fallible.FallibleFunction;
+import org.klojang.jdbc.x.BeanMapperCache;
 import org.klojang.jdbc.x.Utils;
-import org.klojang.jdbc.x.rs.PropertyWriter;
+import org.klojang.jdbc.x.rs.BeanWriter;
 import org.klojang.jdbc.x.rs.RecordFactory;
 import org.klojang.util.InvokeMethods;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
+import static org.klojang.check.CommonChecks.notNull;
+import static org.klojang.check.CommonExceptions.STATE;
 import static org.klojang.check.Tag.CLASS;
+import static org.klojang.jdbc.x.Strings.BEAN;
 import static org.klojang.jdbc.x.Strings.BEAN_SUPPLIER;
 import static org.klojang.jdbc.x.Strings.CONFIG;
-import static org.klojang.jdbc.x.rs.PropertyWriter.createWriters;
 import static org.klojang.util.ClassMethods.className;
 
 /**
  * <p>A factory for {@link BeanExtractor} instances. Generally you would create one
  * {@code BeanExtractorFactory} per SQL query. If multiple types of beans are extracted
  * from the query result (different columns feeding into different types of beans), you
- * would create more than one {@code BeanExtractorFactory} per SQL query. The very first
- * {@link ResultSet} passed to
- * {@link #getExtractor(ResultSet) BeanExtractorFactory.getExtractor()} is used to
- * configure the extraction process. {@code ResultSet} objects subsequently passed to
- * {@code getExtractor()} will be processed identically. Therefore, passing a
- * {@code ResultSet} that came from a completely different query will almost certainly
- * lead to unexpected outcomes or exceptions.
+ * would create more than one {@code BeanExtractorFactory} per SQL query.
  *
- * <p>The configuration of the extraction process may be somewhat expensive. Therefore it
- * is recommended that you store {@code BeanExtractorFactory} instances in
- * {@code static final} fields or use some sort of caching mechanism.
+ * <p>The configuration of the extraction process (the "extraction plan") may be somewhat
+ * expensive. Therefore extraction plans are cached process-wide, keyed by the class of
+ * the beans, the {@link SessionConfig}, and the column labels and column types of the
+ * {@link ResultSet}. A {@code BeanExtractorFactory} can be fed result sets with
+ * different columns, and it will get a correct plan for each of them. Plans are shared
+ * among all {@code BeanExtractorFactory} instances, so it does not matter much whether
+ * you store {@code BeanExtractorFactory} instances in {@code static final} fields or
+ * create them on the fly. The cache is bounded, with least-recently-used plans being
+ * evicted first.
  *
  * @param <T> the type of JavaBeans or records produced by the extractor
  * @author Ayco Holleman
@@ -42,20 +44,24 @@ public final class BeanExtractorFactory<T> implements ExtractorFactory<T> {
   private static final String RECORDS_NOT_ALLOWED
         = "bean supplier not supported for immutable type ${0}";
 
-  private final ReentrantLock lock = new ReentrantLock();
+  private static final String REUSE_NOT_ALLOWED
+        = "bean reuse only supported for JavaBean types";
+
+  private record Plan(ResultSetId resultSetId, Object payload) { }
 
   private final Class<T> clazz;
   private final Supplier<T> supplier;
   private final SessionConfig config;
+  private final FallibleFunction<ResultSet, T, SQLException> converter;
 
   /**
-   * Will either be a RecordFactory in case clazz is a record type, or a PropertyWriter[]
-   * array in case it is a JavaBean type, or a row-to-bean conversion function in case
-   * clazz is null. It's called "payload" because it's the precious thing we set up just
-   * once, and which we then pass on to BeanExtractor instances retrieved from the
-   * factory.
+   * The extraction plan for the most recently seen type of ResultSet. The payload will
+   * either be a RecordFactory in case clazz is a record type, or a BeanWriter in case it
+   * is a JavaBean type. Plans are obtained from the process-wide BeanExtractorCache. This
+   * field just saves us a cache lookup when the factory is fed result sets with the same
+   * columns over and over again, which is what usually happens.
    */
-  private Object payload;
+  private volatile Plan plan;
 
   /**
    * Creates a new {@code BeanExtractorFactory}.
@@ -66,8 +72,9 @@ public final class BeanExtractorFactory<T> implements ExtractorFactory<T> {
    */
   public BeanExtractorFactory(Class<T> clazz) {
     this.clazz = Check.notNull(clazz).ok();
-    this.supplier = clazz.isRecord() ? null : () -> newInstance(clazz);
+    this.supplier = defaultSupplier(clazz);
     this.config = Utils.DEFAULT_CONFIG;
+    this.converter = null;
   }
 
   /**
@@ -81,8 +88,9 @@ public final class BeanExtractorFactory<T> implements ExtractorFactory<T> {
    */
   public BeanExtractorFactory(Class<T> clazz, SessionConfig config) {
     this.clazz = Check.notNull(clazz, CLASS).ok();
-    this.supplier = clazz.isRecord() ? null : () -> newInstance(clazz);
+    this.supplier = defaultSupplier(clazz);
     this.config = Check.notNull(config, CONFIG).ok();
+    this.converter = null;
   }
 
   /**
@@ -102,6 +110,7 @@ public final class BeanExtractorFactory<T> implements ExtractorFactory<T> {
           .ok();
     this.supplier = Check.notNull(beanSupplier, BEAN_SUPPLIER).ok();
     this.config = Utils.DEFAULT_CONFIG;
+    this.converter = null;
   }
 
   /**
@@ -123,6 +132,7 @@ public final class BeanExtractorFactory<T> implements ExtractorFactory<T> {
           .ok();
     this.supplier = Check.notNull(beanSupplier, BEAN_SUPPLIER).ok();
     this.config = Check.notNull(config, CONFIG).ok();
+    this.converter = null;
   }
 
   /**
@@ -141,7 +151,7 @@ public final class BeanExtractorFactory<T> implements ExtractorFactory<T> {
     this.clazz = null;
     this.supplier = null;
     this.config = null;
-    this.payload = converter;
+    this.converter = converter;
   }
 
   /**
@@ -152,49 +162,68 @@ public final class BeanExtractorFactory<T> implements ExtractorFactory<T> {
    * @return A {@code BeanExtractor} that will convert the rows in the specified
    *       {@code ResultSet} into JavaBeans or records of type {@code <T>}
    */
-  @SuppressWarnings("unchecked")
+  @SuppressWarnings({"unchecked", "rawtypes"})
   public BeanExtractor<T> getExtractor(ResultSet rs) {
     if (clazz == null) {
-      var converter = (FallibleFunction<ResultSet, T, SQLException>) payload;
       return new CustomExtractor<>(rs, converter);
     } else if (clazz.isRecord()) {
-      return recordExtractor(rs);
+      return new RecordExtractor<>(rs, (RecordFactory) getPayload(rs));
     }
-    return defaultExtractor(rs);
+    return new DefaultBeanExtractor<>(rs, (BeanWriter) getPayload(rs), supplier);
   }
 
-  private DefaultBeanExtractor<T> defaultExtractor(ResultSet rs) {
-    PropertyWriter<?, ?>[] writers;
-    if ((writers = (PropertyWriter<?, ?>[]) payload) == null) {
-      lock.lock();
-      try {
-        // Check again, but now we know for sure we are the only one in here
-        if (payload == null) {
-          payload = writers = createWriters(rs, clazz, config);
-        }
-      } finally {
-        lock.unlock();
-      }
-    }
-    return new DefaultBeanExtractor<>(rs, writers, supplier);
+  /**
+   * <p>Returns a {@code BeanExtractor} that, rather than creating a new JavaBean for
+   * each row in the specified {@code ResultSet}, keeps overwriting the properties of the
+   * specified JavaBean. Every bean produced by the returned {@code BeanExtractor} is the
+   * very same instance, holding the values of the row that was converted last. This
+   * eliminates the per-row allocation of a new JavaBean, which can make a difference for
+   * pipelines that immediately transform each row into something else (a checksum, a line
+   * in an export file, a running total). Only use this type of {@code BeanExtractor}
+   * with {@link BeanExtractor#forEach(java.util.function.Consumer) forEach()}, its
+   * {@link BeanExtractor#iterator() iterator}, or a stream that does not retain the
+   * beans. Methods like {@link BeanExtractor#extractAll() extractAll()} would return a
+   * {@code List} containing the same bean over and over again.
+   *
+   * <p>Properties that cannot be mapped to a column in the {@code ResultSet} are not
+   * touched. They retain whatever value they had when the bean was passed to this
+   * method.
+   *
+   * @param rs the {@code ResultSet}
+   * @param bean the JavaBean to populate with the values of each row in turn
+   * @return A {@code BeanExtractor} that will repeatedly populate the specified
+   *       JavaBean
+   */
+  public BeanExtractor<T> getReusingExtractor(ResultSet rs, T bean) {
+    Check.on(STATE, clazz).is(notNull(), REUSE_NOT_ALLOWED)
+          .isNot(Class::isRecord, REUSE_NOT_ALLOWED);
+    Check.notNull(bean, BEAN);
+    return new DefaultBeanExtractor<>(rs, (BeanWriter) getPayload(rs), () -> bean);
   }
 
-  @SuppressWarnings({"unchecked", "rawtypes"})
-  private RecordExtractor recordExtractor(ResultSet rs) {
-    RecordFactory recordFactory;
-    if ((recordFactory = (RecordFactory) payload) == null) {
-      lock.lock();
-      try {
-        if (payload == null) {
-          payload = recordFactory = new RecordFactory<>((Class) clazz, rs, config);
-        }
-      } finally {
-        lock.unlock();
+  private Object getPayload(ResultSet rs) {
+    try {
+      ResultSetId resultSetId = new ResultSetId(rs);
+      Plan plan = this.plan;
+      if (plan == null || !plan.resultSetId().equals(resultSetId)) {
+        Object payload = clazz.isRecord()
+              ? BeanExtractorCache.getRecordFactory(clazz, config, resultSetId, rs)
+              : BeanExtractorCache.getBeanWriter(clazz, config, resultSetId, rs);
+        this.plan = plan = new Plan(resultSetId, payload);
       }
+      return plan.payload();
+    } catch (SQLException e) {
+      throw Utils.wrap(e);
     }
-    return new RecordExtractor<>(rs, recordFactory);
   }
 
+  private static <U> Supplier<U> defaultSupplier(Class<U> clazz) {
+    if (clazz.isRecord()) {
+      return null;
+    }
+    BeanMapper<U> mapper = BeanMapperCache.get(clazz);
+    return mapper == null ? () -> newInstance(clazz) : mapper::newInstance;
+  }
 
   private static <U> U newInstance(Class<U> clazz) {
     try {
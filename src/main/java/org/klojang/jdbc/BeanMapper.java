@@ -0,0 +1,176 @@
+package org.klojang.jdbc;
+
+import org.klojang.check.Check;
+import org.klojang.jdbc.x.BeanMapperCache;
+
+import static org.klojang.check.CommonChecks.eq;
+import static org.klojang.check.CommonProperties.length;
+import static org.klojang.check.Tag.CLASS;
+
+/**
+ * <p>Provides direct, reflection-free access to the properties of a JavaBean or record
+ * type. Subclasses are generated by the <i>Klojang JDBC</i> annotation processor for
+ * types annotated with {@link BeanMapping @BeanMapping}. This class is not meant to be
+ * extended or used directly.
+ *
+ * <p>The <i>writable</i> properties of a JavaBean are the properties that have a
+ * setter; its <i>readable</i> properties are the properties that have a getter. For a
+ * record, both are the record components, in declaration order.
+ *
+ * @param <T> the type of the JavaBean or record
+ * @see BeanMapping
+ */
+public abstract class BeanMapper<T> {
+
+  /**
+   * Registers the specified mapper. Called from the static initializer of the generated
+   * mapper class.
+   *
+   * @param mapper the mapper
+   */
+  protected static void register(BeanMapper<?> mapper) {
+    BeanMapperCache.register(mapper.beanClass, mapper);
+  }
+
+  private final Class<T> beanClass;
+  private final String[] writable;
+  private final Class<?>[] writableTypes;
+  private final String[] readable;
+  private final Class<?>[] readableTypes;
+
+  /**
+   * Creates a new {@code BeanMapper}.
+   *
+   * @param beanClass the type of the JavaBean or record
+   * @param writable the names of the writable properties
+   * @param writableTypes the types of the writable properties
+   * @param readable the names of the readable properties
+   * @param readableTypes the types of the readable properties
+   */
+  protected BeanMapper(Class<T> beanClass,
+        String[] writable,
+        Class<?>[] writableTypes,
+        String[] readable,
+        Class<?>[] readableTypes) {
+    this.beanClass = Check.notNull(beanClass, CLASS).ok();
+    this.writable = Check.notNull(writable).ok();
+    this.writableTypes = Check.notNull(writableTypes)
+          .has(length(), eq(), writable.length)
+          .ok();
+    this.readable = Check.notNull(readable).ok();
+    this.readableTypes = Check.notNull(readableTypes)
+          .has(length(), eq(), readable.length)
+          .ok();
+  }
+
+  /**
+   * Returns the type of the JavaBean or record.
+   *
+   * @return the type of the JavaBean or record
+   */
+  public final Class<T> getBeanClass() {
+    return beanClass;
+  }
+
+  /**
+   * Returns the number of writable properties.
+   *
+   * @return the number of writable properties
+   */
+  public final int getWritableCount() {
+    return writable.length;
+  }
+
+  /**
+   * Returns the index of the specified writable property, or -1 if there is no such
+   * property.
+   *
+   * @param property the name of the property
+   * @return the index of the property, or -1
+   */
+  public final int getWritableIndex(String property) {
+    return indexOf(writable, property);
+  }
+
+  /**
+   * Returns the type of the writable property with the specified index.
+   *
+   * @param index the index of the property
+   * @return the type of the property
+   */
+  public final Class<?> getWritableType(int index) {
+    return writableTypes[index];
+  }
+
+  /**
+   * Returns the index of the specified readable property, or -1 if there is no such
+   * property.
+   *
+   * @param property the name of the property
+   * @return the index of the property, or -1
+   */
+  public final int getReadableIndex(String property) {
+    return indexOf(readable, property);
+  }
+
+  /**
+   * Returns the type of the readable property with the specified index.
+   *
+   * @param index the index of the property
+   * @return the type of the property
+   */
+  public final Class<?> getReadableType(int index) {
+    return readableTypes[index];
+  }
+
+  /**
+   * Creates a new instance of the JavaBean. Not supported for records.
+   *
+   * @return a new instance of the JavaBean
+   */
+  public T newInstance() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Sets the writable property with the specified index. Not supported for records.
+   *
+   * @param bean the JavaBean
+   * @param property the index of the property
+   * @param value the value
+   */
+  public void set(T bean, int property, Object value) {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Creates a new record from the specified component values. Components that have no
+   * value are {@code null} in the array. Primitive components then get their default
+   * value. Not supported for JavaBeans.
+   *
+   * @param values the component values, in declaration order
+   * @return a new record
+   */
+  public T newRecord(Object[] values) {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Returns the value of the readable property with the specified index.
+   *
+   * @param bean the JavaBean or record
+   * @param property the index of the property
+   * @return the value of the property
+   */
+  public abstract Object get(T bean, int property);
+
+  private static int indexOf(String[] properties, String property) {
+    for (int i = 0; i < properties.length; ++i) {
+      if (properties[i].equals(property)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+}
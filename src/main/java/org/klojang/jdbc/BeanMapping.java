@@ -0,0 +1,31 @@
+package org.klojang.jdbc;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Marks a JavaBean or record type for which the <i>Klojang JDBC</i> annotation
+ * processor ({@code org.klojang:klojang-jdbc-processor}) must generate a
+ * {@link BeanMapper}. The generated mapper reads and writes the properties of the type
+ * through plain, direct method calls. When present, it is picked up automatically by
+ * {@link BeanExtractorFactory} and by the {@link SQLStatement#bind(Object) bind()}
+ * methods of {@code SQLStatement}. {@code BeanExtractorFactory} uses it to instantiate
+ * JavaBeans. Both use it to access properties that <i>Klojang JDBC</i> cannot reach by
+ * itself, like package-private getters and setters, or the constructor of a
+ * package-private record. Public accessors are still called through method handles,
+ * because, unlike the mapper, these do not box primitive values.
+ *
+ * <p>The annotated type must not be private, and neither must the constructor and
+ * accessor methods that the generated mapper uses, since the mapper lives in the same
+ * package as the annotated type. A JavaBean must have a no-arg constructor. The
+ * processor reports a compilation error if these requirements are not met.
+ *
+ * @see BeanMapper
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface BeanMapping { }
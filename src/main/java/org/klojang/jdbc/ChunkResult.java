@@ -0,0 +1,77 @@
+package org.klojang.jdbc;
+
+/**
+ * Reports the outcome of saving a single chunk of beans or records using a
+ * {@link BatchInsert}. {@code ChunkResult} objects are passed to the listener registered
+ * via {@link BatchInsertBuilder#withChunkListener(java.util.function.Consumer)
+ * BatchInsertBuilder.withChunkListener()}.
+ *
+ * @see BatchInsertBuilder#withChunkSize(int)
+ */
+public final class ChunkResult {
+
+  private final int chunk;
+  private final int fromIndex;
+  private final int toIndex;
+  private final Throwable error;
+
+  ChunkResult(int chunk, int fromIndex, int toIndex, Throwable error) {
+    this.chunk = chunk;
+    this.fromIndex = fromIndex;
+    this.toIndex = toIndex;
+    this.error = error;
+  }
+
+  /**
+   * Returns the (zero-based) sequence number of the chunk.
+   *
+   * @return the sequence number of the chunk
+   */
+  public int chunk() {
+    return chunk;
+  }
+
+  /**
+   * Returns the index of the first bean in the chunk (inclusive).
+   *
+   * @return the index of the first bean in the chunk
+   */
+  public int fromIndex() {
+    return fromIndex;
+  }
+
+  /**
+   * Returns the index of the last bean in the chunk (exclusive).
+   *
+   * @return the index of the last bean in the chunk
+   */
+  public int toIndex() {
+    return toIndex;
+  }
+
+  /**
+   * Returns {@code true} if the chunk was saved successfully; {@code false} otherwise.
+   *
+   * @return whether the chunk was saved successfully
+   */
+  public boolean succeeded() {
+    return error == null;
+  }
+
+  /**
+   * Returns the exception that caused the chunk to fail, or {@code null} if the chunk was
+   * saved successfully.
+   *
+   * @return the exception that caused the chunk to fail
+   */
+  public Throwable error() {
+    return error;
+  }
+
+  @Override
+  public String toString() {
+    String range = "chunk " + chunk + " [" + fromIndex + ".." + toIndex + ")";
+    return error == null ? range + ": OK" : range + ": " + error;
+  }
+
+}
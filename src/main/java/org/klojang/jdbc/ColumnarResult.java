@@ -0,0 +1,205 @@
+package org.klojang.jdbc;
+
+import org.klojang.check.Check;
+import org.klojang.jdbc.x.rs.ColumnBuffer;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.*;
+
+import static org.klojang.check.CommonChecks.*;
+import static org.klojang.jdbc.x.Strings.COLUMN;
+import static org.klojang.jdbc.x.Strings.ROW;
+
+/**
+ * <p>A column-oriented copy of a query result. Rather than converting each row into an
+ * object, a {@code ColumnarResult} stores the values of each column in a single array.
+ * Columns whose SQL datatype corresponds to a primitive type are stored in a primitive
+ * array:
+ *
+ * <ul>
+ *   <li>INTEGER, SMALLINT and TINYINT columns are stored in an {@code int[]} array
+ *   <li>BIGINT columns are stored in a {@code long[]} array
+ *   <li>DOUBLE, FLOAT and REAL columns are stored in a {@code double[]} array
+ *   <li>BOOLEAN columns are stored in a {@code boolean[]} array
+ * </ul>
+ *
+ * <p>All other columns, and columns for which the {@code SessionConfig} provides a
+ * {@link CustomReader}, are stored in an {@code Object[]} array, containing the same
+ * values as a {@link MapExtractor} would have produced. Since primitive arrays cannot
+ * contain {@code null}, NULL values are recorded separately, in a {@link BitSet} per
+ * column. The column names are mapped using the
+ * {@linkplain SessionConfig#getColumnToPropertyMapper() column-to-property mapper} of
+ * the {@link SessionConfig}, just as the keys of the maps produced by a
+ * {@code MapExtractor}.
+ *
+ * <p>For large query results a {@code ColumnarResult} takes up a fraction of the
+ * memory of the equivalent {@code List<Map<String, Object>>}. The arrays returned from
+ * the getters of this class are not copies. Do not modify them unless you are the only
+ * one using the {@code ColumnarResult}.
+ *
+ * @author Ayco Holleman
+ * @see SQLQuery#toColumns()
+ */
+public final class ColumnarResult {
+
+  private final List<String> names;
+  private final Map<String, Integer> indices;
+  private final Object[] columns;
+  private final BitSet[] nulls;
+  private final int size;
+
+  ColumnarResult(ResultSet rs, SessionConfig config, int sizeEstimate) throws SQLException {
+    ResultSetMetaData rsmd = rs.getMetaData();
+    int cnt = rsmd.getColumnCount();
+    String[] names = new String[cnt];
+    Map<String, Integer> indices = HashMap.newHashMap(cnt);
+    for (int i = 0; i < cnt; ++i) {
+      names[i] = config.getColumnToPropertyMapper().map(rsmd.getColumnLabel(i + 1));
+      indices.put(names[i], i);
+    }
+    ColumnBuffer[] buffers = ColumnBuffer.createBuffers(rs, names, config, sizeEstimate);
+    int size = 0;
+    for (; rs.next(); ++size) {
+      for (ColumnBuffer buffer : buffers) {
+        buffer.add(rs);
+      }
+    }
+    this.columns = new Object[cnt];
+    this.nulls = new BitSet[cnt];
+    for (int i = 0; i < cnt; ++i) {
+      columns[i] = buffers[i].toArray();
+      nulls[i] = buffers[i].nulls();
+    }
+    this.names = List.of(names);
+    this.indices = indices;
+    this.size = size;
+  }
+
+  /**
+   * Returns the number of rows in the query result.
+   *
+   * @return the number of rows in the query result
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the (mapped) names of the columns, in the order in which they appear in the
+   * SELECT clause.
+   *
+   * @return the (mapped) names of the columns
+   */
+  public List<String> getColumnNames() {
+    return names;
+  }
+
+  /**
+   * Returns the array type used to store the values of the specified column:
+   * {@code int[].class}, {@code long[].class}, {@code double[].class},
+   * {@code boolean[].class} or {@code Object[].class}.
+   *
+   * @param column the (mapped) name of the column
+   * @return the array type used to store the values of the specified column
+   */
+  public Class<?> getArrayType(String column) {
+    return columns[index(column)].getClass();
+  }
+
+  /**
+   * Returns the values of the specified INTEGER, SMALLINT or TINYINT column. NULL values
+   * are represented by 0 (zero). Use {@link #isNull(String, int)} or
+   * {@link #getNulls(String)} to distinguish them from actual zeros.
+   *
+   * @param column the (mapped) name of the column
+   * @return the values of the specified column
+   */
+  public int[] getInts(String column) {
+    return (int[]) getColumn(column, int[].class);
+  }
+
+  /**
+   * Returns the values of the specified BIGINT column. NULL values are represented by 0
+   * (zero).
+   *
+   * @param column the (mapped) name of the column
+   * @return the values of the specified column
+   */
+  public long[] getLongs(String column) {
+    return (long[]) getColumn(column, long[].class);
+  }
+
+  /**
+   * Returns the values of the specified DOUBLE, FLOAT or REAL column. NULL values are
+   * represented by 0 (zero).
+   *
+   * @param column the (mapped) name of the column
+   * @return the values of the specified column
+   */
+  public double[] getDoubles(String column) {
+    return (double[]) getColumn(column, double[].class);
+  }
+
+  /**
+   * Returns the values of the specified BOOLEAN column. NULL values are represented by
+   * {@code false}.
+   *
+   * @param column the (mapped) name of the column
+   * @return the values of the specified column
+   */
+  public boolean[] getBooleans(String column) {
+    return (boolean[]) getColumn(column, boolean[].class);
+  }
+
+  /**
+   * Returns the values of the specified column, which must not be one of the columns
+   * stored in a primitive array.
+   *
+   * @param column the (mapped) name of the column
+   * @return the values of the specified column
+   */
+  public Object[] getObjects(String column) {
+    return (Object[]) getColumn(column, Object[].class);
+  }
+
+  /**
+   * Returns a {@code BitSet} in which the bits corresponding to the rows with a NULL
+   * value in the specified column are set.
+   *
+   * @param column the (mapped) name of the column
+   * @return a {@code BitSet} indicating which rows have a NULL value
+   */
+  public BitSet getNulls(String column) {
+    return (BitSet) nulls[index(column)].clone();
+  }
+
+  /**
+   * Returns whether the specified row has a NULL value in the specified column.
+   *
+   * @param column the (mapped) name of the column
+   * @param row the row index (zero-based)
+   * @return whether the specified row has a NULL value in the specified column
+   */
+  public boolean isNull(String column, int row) {
+    Check.that(row, ROW).is(gte(), 0).is(lt(), size);
+    return nulls[index(column)].get(row);
+  }
+
+  private Object getColumn(String column, Class<?> arrayType) {
+    Object values = columns[index(column)];
+    Check.that(values).is(instanceOf(),
+          arrayType,
+          "cannot retrieve ${0} column as ${1}",
+          column,
+          arrayType.getSimpleName());
+    return values;
+  }
+
+  private int index(String column) {
+    Check.notNull(column, COLUMN).is(keyIn(), indices, "no such column: ${arg}");
+    return indices.get(column);
+  }
+
+}
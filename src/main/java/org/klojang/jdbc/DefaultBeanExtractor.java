@@ -1,18 +1,18 @@
 package org.klojang.jdbc;
 
-import org.klojang.jdbc.x.rs.PropertyWriter;
+import org.klojang.jdbc.x.rs.BeanWriter;
 
 import java.sql.ResultSet;
 import java.util.function.Supplier;
 
-import static org.klojang.jdbc.x.rs.PropertyWriter.writeAll;
-
 final class DefaultBeanExtractor<T> extends AbstractBeanExtractor<T> {
 
-  DefaultBeanExtractor(ResultSet rs,
-        PropertyWriter<?, ?>[] writers,
-        Supplier<T> supplier) {
-    super(rs, x -> writeAll(x, supplier, writers));
+  DefaultBeanExtractor(ResultSet rs, BeanWriter writer, Supplier<T> supplier) {
+    super(rs, x -> {
+      T bean = supplier.get();
+      writer.write(x, bean);
+      return bean;
+    });
   }
 
 
@@ -12,6 +12,8 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Supplier;
 
 import static java.lang.ref.Cleaner.Cleanable;
@@ -31,6 +33,9 @@ abstract sealed class DynamicSQLSession extends AbstractSQLSession
 
   final RenderSession session;
 
+  // The values assigned to template variables, as passed to the RenderSession
+  final Map<String, Object> vars = HashMap.newHashMap(4);
+
   DynamicSQLSession(Connection con, AbstractSQL sql, RenderSession session) {
     super(con, sql);
     this.session = session;
@@ -42,11 +47,11 @@ abstract sealed class DynamicSQLSession extends AbstractSQLSession
   public final SQLSession set(String varName, Object value) {
     Check.notNull(varName, VAR_NAME);
     if (value instanceof Collection<?> c) {
-      session.set(varName, CollectionMethods.implode(c));
+      setVar(varName, CollectionMethods.implode(c));
     } else if (value.getClass().isArray()) {
-      session.set(varName, ArrayMethods.implodeAny(value));
+      setVar(varName, ArrayMethods.implodeAny(value));
     } else {
-      session.set(varName, value);
+      setVar(varName, value);
     }
     return this;
   }
@@ -57,21 +62,21 @@ abstract sealed class DynamicSQLSession extends AbstractSQLSession
     switch (value) {
       case Collection<?> x -> {
         String val = CollectionMethods.implode(x, this::quoteValue, ",");
-        session.set(varName, val);
+        setVar(varName, val);
       }
       case Object[] x -> {
         String val = ArrayMethods.implode(x, this::quoteValue, ",");
-        session.set(varName, val);
+        setVar(varName, val);
       }
       case int[] x -> {
         String val = ArrayMethods.implodeInts(x, ",");
-        session.set(varName, val);
+        setVar(varName, val);
       }
       default -> {
         if (value.getClass().isArray()) {
-          session.set(varName, ArrayMethods.implodeAny(value, this::quoteValue, ","));
+          setVar(varName, ArrayMethods.implodeAny(value, this::quoteValue, ","));
         } else {
-          session.set(varName, quoteValue(value));
+          setVar(varName, quoteValue(value));
         }
       }
     }
@@ -83,7 +88,7 @@ abstract sealed class DynamicSQLSession extends AbstractSQLSession
     Check.notNull(varName, VAR_NAME);
     Check.notNull(values, VARARGS);
     String val = ArrayMethods.implode(values, this::quoteValue, ",");
-    session.set(varName, val);
+    setVar(varName, val);
     return this;
   }
 
@@ -92,7 +97,7 @@ abstract sealed class DynamicSQLSession extends AbstractSQLSession
     Check.notNull(varName, VAR_NAME);
     Check.notNull(values, VARARGS);
     String val = ArrayMethods.implodeInts(values, ",");
-    session.set(varName, val);
+    setVar(varName, val);
     return this;
   }
 
@@ -100,7 +105,7 @@ abstract sealed class DynamicSQLSession extends AbstractSQLSession
   public final SQLSession setIdentifier(String varName, String identifier) {
     Check.notNull(varName, VAR_NAME);
     Check.notNull(identifier, IDENTIFIER);
-    session.set(varName, quoteIdentifier(identifier));
+    setVar(varName, quoteIdentifier(identifier));
     return this;
   }
 
@@ -159,6 +164,11 @@ abstract sealed class DynamicSQLSession extends AbstractSQLSession
   }
 
 
+  private void setVar(String varName, Object value) {
+    session.set(varName, value);
+    vars.put(varName, value instanceof SQLExpression ? value.toString() : value);
+  }
+
   Statement statement() {
     try {
       return stmt.get(con);
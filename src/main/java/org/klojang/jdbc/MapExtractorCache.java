@@ -1,37 +1,33 @@
 package org.klojang.jdbc;
 
+import org.klojang.jdbc.x.LRUCache;
 import org.klojang.jdbc.x.rs.KeyWriter;
 
 import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.util.HashMap;
-import java.util.Map;
 
 import static org.klojang.jdbc.x.rs.KeyWriter.createWriters;
 
 /**
- * Not currently used, because in the end we thought it would make the extractor retrieval
- * mechanism too expensive. We keep it around though, because it is both more elegant and
- * more idiot-proof than what we currently have. Maybe we change our minds.
+ * Process-wide cache of extraction plans for {@code Map<String, Object>}
+ * pseudo-objects. A plan is identified by the {@link SessionConfig} and the shape of the
+ * {@code ResultSet} (see {@link ResultSetId}).
  */
-@SuppressWarnings({"unused"})
 final class MapExtractorCache {
 
+  private static final int MAX_SIZE = 512;
+
   private record MapExtractorId(SessionConfig config, ResultSetId resultSetId) { }
 
-  private final Map<MapExtractorId, KeyWriter<?>[]> cache = new HashMap<>();
-
-  MapExtractor getExtractor(SessionConfig config, ResultSet rs)
-        throws SQLException {
-    ResultSetId resultSetId = new ResultSetId(rs);
-    MapExtractorId extractorId = new MapExtractorId(config, resultSetId);
-    KeyWriter<?>[] writers = cache.get(extractorId);
-    if (writers == null) {
-      writers = createWriters(rs, config);
-      cache.put(extractorId, writers);
-    }
-    return new DefaultMapExtractor(rs, writers);
-  }
+  private static final LRUCache<MapExtractorId, KeyWriter<?>[]> cache
+        = new LRUCache<>(MAX_SIZE);
 
+  private MapExtractorCache() { throw new UnsupportedOperationException(); }
+
+  static KeyWriter<?>[] getKeyWriters(SessionConfig config,
+        ResultSetId resultSetId,
+        ResultSet rs) {
+    MapExtractorId id = new MapExtractorId(config, resultSetId);
+    return cache.get(id, k -> createWriters(rs, config));
+  }
 
 }
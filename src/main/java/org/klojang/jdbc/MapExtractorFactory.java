@@ -5,10 +5,8 @@ import org.klojang.jdbc.x.Utils;
 import org.klojang.jdbc.x.rs.KeyWriter;
 
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.Map;
-import java.util.concurrent.locks.ReentrantLock;
-
-import static org.klojang.jdbc.x.rs.KeyWriter.createWriters;
 
 /**
  * <p>A factory for {@link MapExtractor} instances. This class behaves similarly to the
@@ -41,19 +39,20 @@ import static org.klojang.jdbc.x.rs.KeyWriter.createWriters;
  * }
  * }</pre></blockquote>
  *
- * <p>However, you don't gain much in terms of performance, because, once a
- * {@code MapExtractorFactory} has configured itself using the very first
- * {@code ResultSet} passed to it, it does not impose any further overhead.
+ * <p>However, you don't gain much in terms of performance, because extraction plans are
+ * cached process-wide anyway, keyed by the {@link SessionConfig} and the column labels
+ * and column types of the {@code ResultSet}.
  *
  * @author Ayco Holleman
  */
 public final class MapExtractorFactory implements ExtractorFactory<Map<String, Object>> {
 
-  private final ReentrantLock lock = new ReentrantLock();
+  private record Plan(ResultSetId resultSetId, KeyWriter<?>[] writers) { }
 
   private final SessionConfig config;
 
-  private KeyWriter<?>[] payload;
+  // The extraction plan for the most recently seen type of ResultSet
+  private volatile Plan plan;
 
   /**
    * Creates a new {@code MapExtractorFactory}.
@@ -81,18 +80,16 @@ public final class MapExtractorFactory implements ExtractorFactory<Map<String, O
    *       {@code ResultSet} into {@code Map<String, Object>} pseudo-objects.
    */
   public MapExtractor getExtractor(ResultSet rs) {
-    KeyWriter<?>[] writers;
-    if ((writers = payload) == null) {
-      lock.lock();
-      try {
-        // Check again, but now we know for sure we are the only one in here
-        if (payload == null) {
-          payload = writers = createWriters(rs, config);
-        }
-      } finally {
-        lock.unlock();
+    try {
+      ResultSetId resultSetId = new ResultSetId(rs);
+      Plan plan = this.plan;
+      if (plan == null || !plan.resultSetId().equals(resultSetId)) {
+        KeyWriter<?>[] writers = MapExtractorCache.getKeyWriters(config, resultSetId, rs);
+        this.plan = plan = new Plan(resultSetId, writers);
       }
+      return new DefaultMapExtractor(rs, plan.writers());
+    } catch (SQLException e) {
+      throw Utils.wrap(e);
     }
-    return new DefaultMapExtractor(rs, writers);
   }
 }
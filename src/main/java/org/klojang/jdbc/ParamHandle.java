@@ -0,0 +1,208 @@
+package org.klojang.jdbc;
+
+import org.klojang.jdbc.x.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * <p>A handle to a single named parameter within a {@link SQLStatement}. A
+ * {@code ParamHandle} writes values straight to the positions of the parameter within
+ * the underlying {@link PreparedStatement}. Unlike
+ * {@link SQLStatement#bind(String, Object) bind(param, value)}, it does not wrap the
+ * value in a map, and it does not go through the {@link SessionConfig} to determine how
+ * to bind the value. This makes {@code ParamHandle} the fastest way to re-execute the
+ * same statement over and over again with different values, for example in a tight
+ * loop:
+ *
+ * <blockquote><pre>{@code
+ * try(SQLQuery query = sql.session(con).prepareQuery()) {
+ *   ParamHandle id = query.param("id");
+ *   for(long key : keys) {
+ *     query.reset();
+ *     id.setLong(key);
+ *     String name = query.getString().get();
+ *     // ...
+ *   }
+ * }
+ * }</pre></blockquote>
+ *
+ * <p>{@code ParamHandle} instances are obtained via
+ * {@link SQLStatement#param(String) SQLStatement.param()}. Like the
+ * {@code SQLStatement} they belong to, they are not thread-safe. Values set through a
+ * {@code ParamHandle} are cleared when the statement is {@linkplain SQLStatement#reset()
+ * reset}.
+ */
+public final class ParamHandle {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ParamHandle.class);
+
+  private final SQLStatement<?> owner;
+  private final String name;
+  private final int index;
+  private final int[] positions;
+
+  ParamHandle(SQLStatement<?> owner, String name, int index, int[] positions) {
+    this.owner = owner;
+    this.name = name;
+    this.index = index;
+    this.positions = positions;
+  }
+
+  /**
+   * Returns the name of the parameter.
+   *
+   * @return the name of the parameter
+   */
+  public String name() {
+    return name;
+  }
+
+  /**
+   * Binds the specified {@code int} to the parameter.
+   *
+   * @param value the value
+   */
+  public void setInt(int value) {
+    PreparedStatement ps = prepare();
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("==> Parameter \"{}\": {}", name, value);
+    }
+    try {
+      for (int pos : positions) {
+        ps.setInt(pos, value);
+      }
+    } catch (SQLException e) {
+      throw Utils.wrap(e, owner.paramInfo);
+    }
+    owner.handled(index);
+  }
+
+  /**
+   * Binds the specified {@code long} to the parameter.
+   *
+   * @param value the value
+   */
+  public void setLong(long value) {
+    PreparedStatement ps = prepare();
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("==> Parameter \"{}\": {}", name, value);
+    }
+    try {
+      for (int pos : positions) {
+        ps.setLong(pos, value);
+      }
+    } catch (SQLException e) {
+      throw Utils.wrap(e, owner.paramInfo);
+    }
+    owner.handled(index);
+  }
+
+  /**
+   * Binds the specified {@code double} to the parameter.
+   *
+   * @param value the value
+   */
+  public void setDouble(double value) {
+    PreparedStatement ps = prepare();
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("==> Parameter \"{}\": {}", name, value);
+    }
+    try {
+      for (int pos : positions) {
+        ps.setDouble(pos, value);
+      }
+    } catch (SQLException e) {
+      throw Utils.wrap(e, owner.paramInfo);
+    }
+    owner.handled(index);
+  }
+
+  /**
+   * Binds the specified {@code boolean} to the parameter.
+   *
+   * @param value the value
+   */
+  public void setBoolean(boolean value) {
+    PreparedStatement ps = prepare();
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("==> Parameter \"{}\": {}", name, value);
+    }
+    try {
+      for (int pos : positions) {
+        ps.setBoolean(pos, value);
+      }
+    } catch (SQLException e) {
+      throw Utils.wrap(e, owner.paramInfo);
+    }
+    owner.handled(index);
+  }
+
+  /**
+   * Binds the specified {@code String} to the parameter.
+   *
+   * @param value the value (may be {@code null})
+   */
+  public void setString(String value) {
+    PreparedStatement ps = prepare();
+    LOG.trace("==> Parameter \"{}\": {}", name, value);
+    try {
+      for (int pos : positions) {
+        ps.setString(pos, value);
+      }
+    } catch (SQLException e) {
+      throw Utils.wrap(e, owner.paramInfo);
+    }
+    owner.handled(index);
+  }
+
+  /**
+   * Binds the specified value to the parameter using
+   * {@link PreparedStatement#setObject(int, Object) PreparedStatement.setObject()}. Note
+   * that, unlike {@link SQLStatement#bind(String, Object) bind(param, value)}, this
+   * method leaves it to the JDBC driver to determine how to bind the value.
+   *
+   * @param value the value (may be {@code null})
+   */
+  public void setObject(Object value) {
+    if (value == null) {
+      setNull();
+      return;
+    }
+    PreparedStatement ps = prepare();
+    LOG.trace("==> Parameter \"{}\": {}", name, value);
+    try {
+      for (int pos : positions) {
+        ps.setObject(pos, value);
+      }
+    } catch (SQLException e) {
+      throw Utils.wrap(e, owner.paramInfo);
+    }
+    owner.handled(index);
+  }
+
+  /**
+   * Binds SQL NULL to the parameter.
+   */
+  public void setNull() {
+    PreparedStatement ps = prepare();
+    LOG.trace("==> Parameter \"{}\": null", name);
+    try {
+      for (int pos : positions) {
+        ps.setNull(pos, Types.OTHER);
+      }
+    } catch (SQLException e) {
+      throw Utils.wrap(e, owner.paramInfo);
+    }
+    owner.handled(index);
+  }
+
+  private PreparedStatement prepare() {
+    owner.checkFresh();
+    return owner.stmt();
+  }
+
+}
@@ -0,0 +1,67 @@
+package org.klojang.jdbc;
+
+import org.klojang.check.Check;
+import org.klojang.jdbc.x.sql.NamedParameter;
+import org.klojang.jdbc.x.sql.ParameterInfo;
+import org.klojang.jdbc.x.sql.PrecompiledSQLCache;
+import org.klojang.util.collection.IntList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.klojang.check.CommonChecks.eq;
+import static org.klojang.check.CommonProperties.length;
+import static org.klojang.check.Tag.CLASS;
+import static org.klojang.check.Tag.PATH;
+import static org.klojang.jdbc.x.Strings.SQL_ARGUMENT;
+
+/**
+ * Receives the SQL that was parsed at compile time by the <i>Klojang JDBC</i>
+ * annotation processor. This class is not meant to be used directly. Its only client is
+ * the code generated for classes annotated with {@link SQLResources @SQLResources}.
+ *
+ * @see SQLResources
+ */
+public final class PrecompiledSQL {
+
+  private PrecompiledSQL() { throw new UnsupportedOperationException(); }
+
+  /**
+   * Registers a SQL file that was parsed at compile time.
+   *
+   * @param clazz the class annotated with {@code @SQLResources}
+   * @param path the location of the SQL file, as specified in the annotation
+   * @param sql the contents of the SQL file
+   * @param normalizedSQL the SQL with all named parameters replaced by question marks
+   * @param names the names of the named parameters, in order of first appearance
+   * @param positions for each named parameter, the positions at which it occurs
+   */
+  public static void register(Class<?> clazz,
+        String path,
+        String sql,
+        String normalizedSQL,
+        String[] names,
+        int[][] positions) {
+    Check.notNull(clazz, CLASS);
+    Check.notNull(path, PATH);
+    Check.notNull(sql, SQL_ARGUMENT);
+    Check.notNull(normalizedSQL);
+    Check.notNull(names);
+    Check.notNull(positions).has(length(), eq(), names.length);
+    List<NamedParameter> params = new ArrayList<>(names.length);
+    Map<String, IntList> paramPositions = new LinkedHashMap<>();
+    for (int i = 0; i < names.length; ++i) {
+      IntList list = IntList.of(positions[i]);
+      params.add(new NamedParameter(names[i], list));
+      paramPositions.put(names[i], list);
+    }
+    ParameterInfo paramInfo = new ParameterInfo(normalizedSQL,
+          List.copyOf(params),
+          Collections.unmodifiableMap(paramPositions));
+    PrecompiledSQLCache.put(clazz, path, sql, paramInfo);
+  }
+
+}
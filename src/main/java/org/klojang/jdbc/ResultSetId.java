@@ -6,12 +6,15 @@ import java.sql.SQLException;
 import java.util.Arrays;
 
 /**
- * Not currently used. See {@link BeanExtractorCache} and {@link MapExtractorCache}.
+ * Identifies the "shape" of a {@code ResultSet}: its column labels and column types. Two
+ * result sets with the same shape can be converted using the same extraction plan. See
+ * {@link BeanExtractorCache} and {@link MapExtractorCache}.
  */
 final class ResultSetId {
 
   private final String[] labels;
   private final int[] types;
+  private final int hash;
 
   ResultSetId(ResultSet rs) throws SQLException {
     ResultSetMetaData rsmd = rs.getMetaData();
@@ -22,12 +25,12 @@ final class ResultSetId {
       labels[i] = rsmd.getColumnLabel(i + 1);
       types[i] = rsmd.getColumnType(i + 1);
     }
+    hash = (Arrays.hashCode(labels) * 31) + Arrays.hashCode(types);
   }
 
   @Override
   public int hashCode() {
-    int hash = Arrays.hashCode(labels);
-    return (hash * 31) + Arrays.hashCode(types);
+    return hash;
   }
 
   @Override
@@ -35,7 +38,9 @@ final class ResultSetId {
     if (this == obj) {
       return true;
     }
-    ResultSetId other = (ResultSetId) obj;
-    return Arrays.equals(types, other.types) && Arrays.equals(labels, other.labels);
+    return obj instanceof ResultSetId other
+          && hash == other.hash
+          && Arrays.equals(types, other.types)
+          && Arrays.equals(labels, other.labels);
   }
 }
@@ -4,7 +4,9 @@ import org.klojang.check.Check;
 import org.klojang.jdbc.x.SQLCache;
 
 import java.sql.Connection;
+import java.util.function.BiFunction;
 
+import static org.klojang.jdbc.x.SQLCache.Kind.*;
 import static org.klojang.jdbc.x.Strings.*;
 import static org.klojang.jdbc.x.Utils.DEFAULT_CONFIG;
 
@@ -154,7 +156,7 @@ public sealed interface SQL permits AbstractSQL {
    *       <i>Klojang Templates</i> variables
    */
   static SQL staticSQL(Class<?> clazz, String sqlFile) {
-    return SQLCache.get(clazz, sqlFile, SQL::staticSQL);
+    return SQLCache.get(STATIC, clazz, sqlFile, SQL::staticSQL);
   }
 
   /**
@@ -176,7 +178,7 @@ public sealed interface SQL permits AbstractSQL {
    *       <i>Klojang Templates</i> variables
    */
   static SQL staticSQL(SessionConfig config, Class<?> clazz, String sqlFile) {
-    return SQLCache.get(clazz, sqlFile, config, SQL::staticSQL);
+    return SQLCache.get(STATIC, clazz, sqlFile, config, SQL::staticSQL);
   }
 
   /**
@@ -197,16 +199,19 @@ public sealed interface SQL permits AbstractSQL {
    * <i>Klojang Templates</i> variables. The SQL is read from the specified classpath
    * resource. The resulting {@code SQL} instance is cached and returned upon every
    * subsequent call with the same {@code clazz} and {@code sqlFile} arguments. Thus, the
-   * file will be read just once.
+   * file will be read just once. If the SQL file was listed in a
+   * {@link SQLResources @SQLResources} annotation on {@code clazz}, it will not be read
+   * or parsed at all at runtime.
    *
    * @param clazz a {@code Class} object that provides access to the SQL file by
    *       calling {@code clazz.getResourceAsStream(sqlFile)}
    * @param sqlFile the location of the SQL file
    * @return a {@code SQL} implementation that allows for named parameters, but not for
    *       <i>Klojang Templates</i> variables
+   * @see SQLResources
    */
   static SQL simple(Class<?> clazz, String sqlFile) {
-    return SQLCache.get(clazz, sqlFile, SQL::simple);
+    return SQLCache.get(SIMPLE, clazz, sqlFile, SQL::simple);
   }
 
   /**
@@ -240,7 +245,7 @@ public sealed interface SQL permits AbstractSQL {
    *       <i>Klojang Templates</i> variables
    */
   static SQL simple(SessionConfig config, Class<?> clazz, String sqlFile) {
-    return SQLCache.get(clazz, sqlFile, config, SQL::simple);
+    return SQLCache.get(SIMPLE, clazz, sqlFile, config, SQL::simple);
   }
 
   /**
@@ -400,7 +405,7 @@ public sealed interface SQL permits AbstractSQL {
    *       <i>Klojang Templates</i> variables
    */
   static SQL template(Class<?> clazz, String sqlFile) {
-    return SQLCache.get(clazz, sqlFile, SQL::template);
+    return SQLCache.get(TEMPLATE, clazz, sqlFile, SQL::template);
   }
 
 
@@ -436,7 +441,7 @@ public sealed interface SQL permits AbstractSQL {
    *       <i>Klojang Templates</i> variables
    */
   static SQL template(SessionConfig config, Class<?> clazz, String sqlFile) {
-    return SQLCache.get(clazz, sqlFile, config, SQL::template);
+    return SQLCache.get(TEMPLATE, clazz, sqlFile, config, SQL::template);
   }
 
 
@@ -469,7 +474,7 @@ public sealed interface SQL permits AbstractSQL {
    *       <i>Klojang Templates</i> variables
    */
   static SQL skeleton(Class<?> clazz, String sqlFile) {
-    return SQLCache.get(clazz, sqlFile, SQL::skeleton);
+    return SQLCache.get(SKELETON, clazz, sqlFile, SQL::skeleton);
   }
 
 
@@ -507,7 +512,31 @@ public sealed interface SQL permits AbstractSQL {
    *       <i>Klojang Templates</i> variables
    */
   static SQL skeleton(SessionConfig config, Class<?> clazz, String sqlFile) {
-    return SQLCache.get(clazz, sqlFile, config, SQL::skeleton);
+    return SQLCache.get(SKELETON, clazz, sqlFile, config, SQL::skeleton);
+  }
+
+  /**
+   * Loads and parses the specified SQL files in parallel, so that subsequent requests
+   * for them are served from the cache. Useful for warming up an application that uses
+   * many SQL files at startup. The {@code loader} argument must be one of the
+   * {@code SQL} factory methods that take a {@code Class} and a SQL file. For example:
+   *
+   * <blockquote><pre>{@code
+   * SQL.preload(SQL::template, EmployeeDao.class, "employees.sql", "departments.sql");
+   * // Served from the cache:
+   * SQL sql = SQL.template(EmployeeDao.class, "employees.sql");
+   * }</pre></blockquote>
+   *
+   * @param loader the factory method with which to create the {@code SQL} objects
+   * @param clazz a {@code Class} object that provides access to the SQL files by
+   *       calling {@code clazz.getResourceAsStream(sqlFile)}
+   * @param sqlFiles the locations of the SQL files
+   */
+  static void preload(BiFunction<Class<?>, String, SQL> loader,
+        Class<?> clazz,
+        String... sqlFiles) {
+    Check.notNull(loader, LOADER);
+    SQLCache.preload(clazz, sqlFiles, loader);
   }
 
 
@@ -1,5 +1,6 @@
 package org.klojang.jdbc;
 
+import org.klojang.check.Check;
 import org.klojang.check.aux.Result;
 import org.klojang.check.fallible.FallibleFunction;
 import org.klojang.jdbc.x.Msg;
@@ -12,13 +13,21 @@ import org.slf4j.LoggerFactory;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
 
 import static java.lang.ref.Cleaner.Cleanable;
+import static org.klojang.check.CommonChecks.gte;
+import static org.klojang.jdbc.x.Strings.FETCH_SIZE;
+import static org.klojang.jdbc.x.Strings.SIZE_ESTIMATE;
 import static org.klojang.jdbc.x.Utils.CENTRAL_CLEANER;
 
 /**
@@ -222,6 +231,36 @@ public final class SQLQuery extends SQLStatement<SQLQuery> {
     }
   }
 
+  /**
+   * Executes the query and copies the result into a column-oriented data structure.
+   * Equivalent to {@link #toColumns(int) toColumns(10)}.
+   *
+   * @return a {@code ColumnarResult} containing all remaining rows in the
+   *       {@code ResultSet}
+   */
+  public ColumnarResult toColumns() { return toColumns(10); }
+
+  /**
+   * Executes the query and copies the result into a column-oriented data structure, with
+   * numeric and boolean columns stored in primitive arrays. See {@link ColumnarResult}.
+   * If the query had already been executed, it will not be executed again, and only the
+   * remaining rows will be copied. Call {@link SQLStatement#reset() reset()} to force the
+   * query to be re-executed.
+   *
+   * @param sizeEstimate the expected number of rows
+   * @return a {@code ColumnarResult} containing all remaining rows in the
+   *       {@code ResultSet}
+   */
+  public ColumnarResult toColumns(int sizeEstimate) {
+    Check.that(sizeEstimate, SIZE_ESTIMATE).is(gte(), 0);
+    try {
+      ResultSet rs = executeIfNull();
+      return new ColumnarResult(rs, session.getSQL().config(), sizeEstimate);
+    } catch (Throwable t) {
+      throw Utils.wrap(t);
+    }
+  }
+
   /**
    * <p>Executes the query and returns a {@code MapExtractor} that you can use to convert
    * the rows in the {@link ResultSet} into {@code Map<String, Object>} pseudo-objects. If
@@ -309,6 +348,141 @@ public final class SQLQuery extends SQLStatement<SQLQuery> {
     }
   }
 
+  /**
+   * <p>Executes the query and returns a lazily populated {@code Stream} of JavaBeans or
+   * records. Rows are fetched from the database and converted as the stream is
+   * traversed, so even very large query results can be processed in constant memory.
+   * Closing the stream closes this {@code SQLQuery}. Therefore, always use the stream
+   * within a try-with-resources block:
+   *
+   * <blockquote><pre>{@code
+   * try(Stream<Person> persons = session.prepareQuery()
+   *       .withFetchSize(1000)
+   *       .stream(Person.class)) {
+   *   persons.forEach(exporter::write);
+   * }
+   * }</pre></blockquote>
+   *
+   * <p>Note that some JDBC drivers only fetch rows incrementally if the fetch size has
+   * been set (see {@link #withFetchSize(int)}) and, in some cases, if auto-commit has
+   * been disabled for the connection. Statements created by <i>Klojang JDBC</i> always
+   * produce forward-only, read-only result sets.
+   *
+   * @param <T> the type of the JavaBeans or records
+   * @param clazz the class of the JavaBeans or records
+   * @return a {@code Stream} of JavaBeans or records
+   */
+  public <T> Stream<T> stream(Class<T> clazz) {
+    return getExtractor(clazz).stream().onClose(this::close);
+  }
+
+  /**
+   * Executes the query and returns a lazily populated {@code Stream} of
+   * {@code Map<String, Object>} pseudo-objects. Closing the stream closes this
+   * {@code SQLQuery}. See {@link #stream(Class)}.
+   *
+   * @return a {@code Stream} of {@code Map<String, Object>} pseudo-objects
+   */
+  public Stream<Map<String, Object>> streamMaps() {
+    return getExtractor().stream().onClose(this::close);
+  }
+
+  /**
+   * Executes the query, converts the rows in the {@code ResultSet} into JavaBeans or
+   * records, and passes them to the specified consumer, one at a time. If the query had
+   * already been executed, it will not be executed again, and only the remaining rows
+   * will be converted. Call {@link SQLStatement#reset() reset()} to force the query to be
+   * re-executed.
+   *
+   * @param <T> the type of the JavaBeans or records
+   * @param clazz the class of the JavaBeans or records
+   * @param action the consumer of the JavaBeans or records
+   */
+  public <T> void forEach(Class<T> clazz, Consumer<? super T> action) {
+    getExtractor(clazz).forEach(action);
+  }
+
+  /**
+   * Executes the query, converts the rows in the {@code ResultSet} into JavaBeans or
+   * records, and feeds them into the specified {@code Collector}, without first
+   * collecting them into a {@code List}. For example:
+   *
+   * <blockquote><pre>{@code
+   * Map<String, List<Person>> byLastName = query.collect(Person.class,
+   *     Collectors.groupingBy(Person::getLastName));
+   * }</pre></blockquote>
+   *
+   * <p>If the query had already been executed, it will not be executed again, and only
+   * the remaining rows will be collected. Call {@link SQLStatement#reset() reset()} to
+   * force the query to be re-executed.
+   *
+   * @param <T> the type of the JavaBeans or records
+   * @param <A> the mutable accumulation type of the {@code Collector}
+   * @param <R> the result type of the {@code Collector}
+   * @param clazz the class of the JavaBeans or records
+   * @param collector the {@code Collector}
+   * @return the result of the {@code Collector}
+   */
+  public <T, A, R> R collect(Class<T> clazz, Collector<? super T, A, R> collector) {
+    return getExtractor(clazz).collect(collector);
+  }
+
+  /**
+   * Gives the JDBC driver a hint as to the number of rows that should be fetched from the
+   * database when more rows are needed. See {@link Statement#setFetchSize(int)}. Specify
+   * 0 (zero) to revert to the driver's default. If the query has already been executed,
+   * the fetch size is also set on the {@code ResultSet}, and it will apply to subsequent
+   * fetches.
+   *
+   * @param rows the number of rows to fetch at a time
+   * @return this {@code SQLQuery} instance
+   */
+  public SQLQuery withFetchSize(int rows) {
+    Check.that(rows, FETCH_SIZE).is(gte(), 0);
+    try {
+      stmt().setFetchSize(rows);
+      if (result.get() != null) {
+        result.get().setFetchSize(rows);
+      }
+      return this;
+    } catch (SQLException e) {
+      throw Utils.wrap(e);
+    }
+  }
+
+  /**
+   * Executes the query and returns a {@code BeanExtractor} that repeatedly populates the
+   * specified JavaBean rather than creating a new JavaBean for each row. See
+   * {@link BeanExtractorFactory#getReusingExtractor(ResultSet, Object)
+   * BeanExtractorFactory.getReusingExtractor()} for when (and when not) to use such a
+   * {@code BeanExtractor}. For example:
+   *
+   * <blockquote><pre>{@code
+   * try (SQLQuery query = session.prepareQuery()) {
+   *   query.getReusingExtractor(Person.class, new Person())
+   *       .forEach(person -> writer.println(toCSV(person)));
+   * }
+   * }</pre></blockquote>
+   *
+   * <p>If the query had already been executed, it will not be executed again. Call
+   * {@link SQLStatement#reset() reset()} to force the query to be re-executed.
+   *
+   * @param <T> the type of the JavaBean (must <i>not</i> be a {@code record} type)
+   * @param clazz the class of the JavaBean
+   * @param bean the JavaBean to populate with the values of each row in turn
+   * @return a {@code BeanExtractor} that repeatedly populates the specified JavaBean
+   */
+  public <T> BeanExtractor<T> getReusingExtractor(Class<T> clazz, T bean) {
+    try {
+      ResultSet rs = executeIfNull();
+      return session.getSQL()
+            .getBeanExtractorFactory(clazz)
+            .getReusingExtractor(rs, bean);
+    } catch (Throwable t) {
+      throw Utils.wrap(t);
+    }
+  }
+
   /**
    * Executes the query and converts the first row in the {@code ResultSet} into an object
    * of type {@code <T>} using the specified conversion function. If the query yielded an
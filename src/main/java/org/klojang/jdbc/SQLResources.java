@@ -0,0 +1,47 @@
+package org.klojang.jdbc;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Lists the SQL files used by the annotated class, so that they can be parsed at
+ * compile time by the <i>Klojang JDBC</i> annotation processor
+ * ({@code org.klojang:klojang-jdbc-processor}). The paths are resolved just like the
+ * {@code sqlFile} argument of {@link SQL#simple(Class, String) SQL.simple(Class, String)}
+ * &#8212; that is, relative to the package of the annotated class, unless they start
+ * with a '/'. For example:
+ *
+ * <blockquote><pre>{@code
+ * @SQLResources({"/sql/employees.sql", "departments.sql"})
+ * public class EmployeeDao {
+ *
+ *   private static final SQL EMPLOYEES = SQL.simple(EmployeeDao.class, "/sql/employees.sql");
+ *
+ * }
+ * }</pre></blockquote>
+ *
+ * <p>For each annotated class the processor generates a class that holds the normalized
+ * SQL and the positions of the named parameters within it. The build fails if any of
+ * the SQL files cannot be found or contains malformed named parameters. At runtime,
+ * {@code SQL.simple(Class, String)} and {@code SQL.staticSQL(Class, String)} pick up
+ * the precompiled SQL, thus skipping both file i/o and parsing. If the processor was
+ * not run, the annotation has no effect.
+ *
+ * @see PrecompiledSQL
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface SQLResources {
+
+  /**
+   * The locations of the SQL files used by the annotated class.
+   *
+   * @return the locations of the SQL files used by the annotated class
+   */
+  String[] value();
+
+}
@@ -1,6 +1,7 @@
 package org.klojang.jdbc;
 
 import org.klojang.check.Check;
+import org.klojang.jdbc.x.StatementCache;
 import org.klojang.jdbc.x.Utils;
 import org.klojang.jdbc.x.ps.BeanBinder;
 import org.klojang.jdbc.x.ps.MapBinder;
@@ -42,6 +43,10 @@ public abstract sealed class SQLStatement<T extends SQLStatement<T>>
   final List<Object> bindings;
   final Set<NamedParameter> bound;
 
+  // The parameters bound through a ParamHandle, by their index in paramInfo.parameters()
+  private final BitSet handled;
+  private ParamHandle[] handles;
+
   private final StatementContainer stmt;
   private final Cleanable cleanable;
 
@@ -54,7 +59,9 @@ public abstract sealed class SQLStatement<T extends SQLStatement<T>>
     this.paramInfo = paramInfo;
     this.bindings = new ArrayList<>(5);
     this.bound = HashSet.newHashSet(paramInfo.parameters().size());
-    this.stmt = new StatementContainer(stmt);
+    this.handled = new BitSet(paramInfo.parameters().size());
+    this.stmt = new StatementContainer(stmt,
+          session.getSQL().config().getStatementCacheSize() > 0);
     this.cleanable = CENTRAL_CLEANER.register(this, this.stmt);
   }
 
@@ -119,18 +126,58 @@ public abstract sealed class SQLStatement<T extends SQLStatement<T>>
     return (T) this;
   }
 
+  /**
+   * Returns a handle to the specified named parameter, which allows you to bind values
+   * directly to the parameter. Repeated calls with the same parameter name return the
+   * same {@code ParamHandle}. Values bound through a {@code ParamHandle} count toward
+   * the parameters that must be bound before the statement can be executed, just like
+   * values bound using one of the {@code bind()} methods.
+   *
+   * @param param the named parameter
+   * @return a handle to the named parameter
+   * @see ParamHandle
+   */
+  public ParamHandle param(String param) {
+    Check.notNull(param, PARAM)
+          .is(keyIn(), paramInfo.parameterPositions(), NO_SUCH_PARAM);
+    List<NamedParameter> params = paramInfo.parameters();
+    if (handles == null) {
+      handles = new ParamHandle[params.size()];
+    }
+    int i = 0;
+    while (!params.get(i).name().equals(param)) {
+      ++i;
+    }
+    if (handles[i] == null) {
+      int[] positions = params.get(i).positions().toArray();
+      handles[i] = new ParamHandle(this, param, i, positions);
+    }
+    return handles[i];
+  }
+
   /**
    * Clears all bindings and allows the statement to be re-executed with new bindings.
    */
   public void reset() {
     bindings.clear();
     bound.clear();
+    handled.clear();
     fresh = true;
     initialize();
   }
 
   PreparedStatement stmt() { return stmt.get(); }
 
+  void checkFresh() {
+    if (!fresh) {
+      Check.fail(DIRTY_INSTANCE);
+    }
+  }
+
+  void handled(int paramIndex) {
+    handled.set(paramIndex);
+  }
+
   abstract void initialize();
 
   @SuppressWarnings({"unchecked", "rawtypes"})
@@ -147,6 +194,13 @@ public abstract sealed class SQLStatement<T extends SQLStatement<T>>
         bound.addAll(binder.getBoundParameters());
       }
     }
+    List<NamedParameter> params = paramInfo.parameters();
+    if (bindings.isEmpty() && handled.cardinality() == params.size()) {
+      return; // all parameters bound through handles
+    }
+    for (int i = handled.nextSetBit(0); i >= 0; i = handled.nextSetBit(i + 1)) {
+      bound.add(params.get(i));
+    }
     Check.that(bound.size()).is(eq(), paramInfo.parameters().size(), unboundParameters());
   }
 
@@ -156,7 +210,9 @@ public abstract sealed class SQLStatement<T extends SQLStatement<T>>
 
   /**
    * Releases all resources held by this instance. You cannot reuse the instance after a
-   * call to this method.
+   * call to this method. If statement caching is enabled (see
+   * {@link SessionConfig#getStatementCacheSize()}), the underlying
+   * {@link PreparedStatement} is returned to the cache rather than closed.
    */
   @Override
   public void close() {
@@ -175,15 +231,21 @@ public abstract sealed class SQLStatement<T extends SQLStatement<T>>
   private static class StatementContainer implements Runnable {
 
     private final PreparedStatement stmt;
+    private final boolean cached;
 
-    StatementContainer(PreparedStatement stmt) { this.stmt = stmt; }
+    StatementContainer(PreparedStatement stmt, boolean cached) {
+      this.stmt = stmt;
+      this.cached = cached;
+    }
 
     PreparedStatement get() { return stmt; }
 
     @Override
     public void run() {
       try {
-        stmt.close();
+        if (!cached || !StatementCache.release(stmt)) {
+          stmt.close();
+        }
       } catch (SQLException e) {
         // ...
       }
@@ -3,18 +3,30 @@ package org.klojang.jdbc;
 import org.klojang.check.Check;
 import org.klojang.jdbc.x.Utils;
 import org.klojang.jdbc.x.sql.ParamExtractor;
+import org.klojang.jdbc.x.sql.ParameterInfo;
 import org.klojang.templates.ParseException;
+import org.klojang.templates.RenderSession;
 import org.klojang.templates.Template;
 
 import java.sql.Connection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.klojang.jdbc.x.Strings.CONNECTION;
 
 final class SQLTemplate extends AbstractSQL {
 
+  // Maximum number of distinct renderings to cache. Variables set through setValue()
+  // may well be assigned an unbounded number of distinct values, and we don't want to
+  // cache those indefinitely.
+  private static final int MAX_RENDERINGS = 256;
+
   private final Template template;
   private final ParamExtractor extractor;
 
+  // Maps the values assigned to the template variables to the rendered SQL
+  private final Map<Map<String, Object>, ParameterInfo> renderings;
+
   SQLTemplate(String sql, SessionConfig config) {
     super(sql, config);
     extractor = new ParamExtractor(sql);
@@ -23,12 +35,42 @@ final class SQLTemplate extends AbstractSQL {
     } catch (ParseException e) {
       throw Utils.wrap(e);
     }
+    renderings = new ConcurrentHashMap<>();
   }
 
   @Override
   public SQLSession session(Connection con) {
     Check.notNull(con, CONNECTION);
-    return new SQLTemplateSession(con, this, extractor, template.newRenderSession());
+    return new SQLTemplateSession(con, this, template.newRenderSession());
+  }
+
+  ParameterInfo getParameterInfo(RenderSession session, Map<String, Object> vars) {
+    if (!isCacheable(vars)) {
+      return new ParameterInfo(session.render(), extractor);
+    }
+    ParameterInfo paramInfo = renderings.get(vars);
+    if (paramInfo == null) {
+      paramInfo = new ParameterInfo(session.render(), extractor);
+      if (renderings.size() < MAX_RENDERINGS) {
+        renderings.putIfAbsent(Map.copyOf(vars), paramInfo);
+      }
+    }
+    return paramInfo;
+  }
+
+  // Only cache renderings if all values have a well-defined equals() method that agrees
+  // with their string representation
+  private static boolean isCacheable(Map<String, Object> vars) {
+    for (Object val : vars.values()) {
+      if (!(val instanceof String
+            || val instanceof Number
+            || val instanceof Boolean
+            || val instanceof Character
+            || val instanceof Enum)) {
+        return false;
+      }
+    }
+    return true;
   }
 
 }
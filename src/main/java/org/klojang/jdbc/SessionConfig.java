@@ -1,5 +1,7 @@
 package org.klojang.jdbc;
 
+import org.klojang.check.Check;
+import org.klojang.jdbc.x.MemoizingSessionConfig;
 import org.klojang.jdbc.x.Utils;
 import org.klojang.templates.NameMapper;
 import org.klojang.templates.name.CamelCaseToSnakeLowerCase;
@@ -11,6 +13,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
 import java.util.function.Function;
 
+import static org.klojang.check.CommonChecks.gte;
 import static org.klojang.templates.name.CamelCaseToSnakeLowerCase.camelCaseToSnakeLowerCase;
 import static org.klojang.templates.name.CamelCaseToSnakeUpperCase.camelCaseToSnakeUpperCase;
 import static org.klojang.templates.name.SnakeCaseToCamelCase.snakeCaseToCamelCase;
@@ -40,6 +43,10 @@ import static org.klojang.templates.name.SnakeCaseToCamelCase.snakeCaseToCamelCa
  *
  * <p>It is recommended that you store {@code SessionConfig} objects in
  * {@code public static final} fields and share them whenever and wherever possible.
+ * <i>Klojang JDBC</i> caches binders, extractors, and {@link SQL} objects per
+ * {@code SessionConfig} instance. If your implementation is expensive to evaluate, or if
+ * you derive configurations using the withers, consider {@linkplain #memoize() memoizing}
+ * it.
  *
  * @author Ayco Holleman
  */
@@ -311,6 +318,33 @@ public interface SessionConfig {
     return snakeCaseToCamelCase();
   }
 
+  /**
+   * <p>Returns the maximum number of {@link java.sql.PreparedStatement PreparedStatement}
+   * objects to keep open, per {@link java.sql.Connection Connection}, for reuse by
+   * subsequent sessions. The default implementation returns 0, meaning that statement
+   * caching is disabled, and every call to {@link SQLSession#prepareQuery()
+   * prepareQuery()}, {@link SQLSession#prepareInsert() prepareInsert()} and
+   * {@link SQLSession#prepareUpdate() prepareUpdate()} will prepare a new statement.
+   *
+   * <p>If a positive number is returned, statements are cached by their (normalized)
+   * SQL and by whether they must return database-generated keys. Calling
+   * {@link SQLStatement#close() close()} on a {@link SQLQuery}, {@link SQLInsert}, or
+   * {@link SQLUpdate} will then return the underlying {@code PreparedStatement} to the
+   * cache instead of closing it. Once the cache for a connection is full, the least
+   * recently used statement is closed. Only enable statement caching if neither your
+   * JDBC driver nor your connection pool already does this for you. Statement caching
+   * applies to SQL created using {@link SQL#simple(String) SQL.simple()},
+   * {@link SQL#staticSQL(String) SQL.staticSQL()} and
+   * {@link SQL#template(String) SQL.template()}. In the latter case, statements are
+   * cached per distinct rendering of the SQL template.
+   *
+   * @return the maximum number of {@code PreparedStatement} objects to cache per
+   *       connection
+   */
+  default int getStatementCacheSize() {
+    return 0;
+  }
+
   /**
    * Returns a new instance that is equal to this instance except with the
    * property-to-column mapper set to the specified {@code NameMapper}.
@@ -398,4 +432,37 @@ public interface SessionConfig {
     };
   }
 
+  /**
+   * Returns a new instance that is equal to this instance except that up to
+   * {@code maxSize} prepared statements will be cached per connection.
+   *
+   * @param maxSize the maximum number of {@code PreparedStatement} objects to cache
+   *       per connection
+   * @return a new instance that is equal to this instance except that up to
+   *       {@code maxSize} prepared statements will be cached per connection
+   * @see #getStatementCacheSize()
+   */
+  default SessionConfig withStatementCache(int maxSize) {
+    Check.that(maxSize).is(gte(), 0);
+    return new SessionConfig() {
+      public int getStatementCacheSize() { return maxSize; }
+    };
+  }
+
+  /**
+   * Returns a {@code SessionConfig} that evaluates each method of this instance at most
+   * once per combination of arguments, and then serves the answer from a hash table. The
+   * withers of the returned instance are memoized as well: calling the same wither
+   * (with the same argument) twice returns the same {@code SessionConfig}. Therefore,
+   * caches keyed on the {@code SessionConfig} will keep on hitting for configurations
+   * derived from the returned instance. Note that memoization assumes that the methods
+   * of this instance always return the same value for the same arguments. The
+   * {@link #getDefaultConfig() default config} is already memoized.
+   *
+   * @return a memoizing version of this instance
+   */
+  default SessionConfig memoize() {
+    return MemoizingSessionConfig.of(this);
+  }
+
 }
@@ -3,6 +3,7 @@ package org.klojang.jdbc;
 import org.klojang.check.Check;
 import org.klojang.jdbc.x.sql.ParamExtractor;
 import org.klojang.jdbc.x.sql.ParameterInfo;
+import org.klojang.jdbc.x.sql.PrecompiledSQLCache;
 
 import java.sql.Connection;
 
@@ -17,7 +18,10 @@ final class SimpleSQL extends AbstractSQL {
     if (isStatic) {
       paramInfo = new ParameterInfo(new ParamExtractor(sql, 0));
     } else {
-      paramInfo = new ParameterInfo(new ParamExtractor(sql));
+      ParameterInfo precompiled = PrecompiledSQLCache.getParameterInfo(sql);
+      paramInfo = precompiled != null
+            ? precompiled
+            : new ParameterInfo(new ParamExtractor(sql));
     }
   }
 
@@ -1,6 +1,5 @@
 package org.klojang.jdbc;
 
-import org.klojang.jdbc.x.JDBC;
 import org.klojang.jdbc.x.sql.ParameterInfo;
 
 import java.sql.Connection;
@@ -16,19 +15,19 @@ final class SimpleSQLSession extends AbstractSQLSession {
 
   @Override
   public SQLQuery prepareQuery() {
-    var stmt = JDBC.getPreparedStatement(con, paramInfo);
+    var stmt = prepare(paramInfo);
     return new SQLQuery(stmt, this, paramInfo);
   }
 
   @Override
   public SQLInsert prepareInsert(boolean retrieveKeys) {
-    var stmt = JDBC.getPreparedStatement(con, paramInfo, retrieveKeys);
+    var stmt = prepare(paramInfo, retrieveKeys);
     return new SQLInsert(stmt, this, paramInfo, retrieveKeys);
   }
 
   @Override
   public SQLUpdate prepareUpdate() {
-    var stmt = JDBC.getPreparedStatement(con, paramInfo);
+    var stmt = prepare(paramInfo);
     return new SQLUpdate(stmt, this, paramInfo);
   }
 
@@ -0,0 +1,65 @@
+package org.klojang.jdbc.x;
+
+import org.klojang.jdbc.BeanMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the {@link BeanMapper} instances generated by the <i>Klojang JDBC</i>
+ * annotation processor. The processor generates a class named after the annotated type,
+ * with {@value #SUFFIX} appended to it, whose static initializer registers the mapper
+ * with this cache. The generated class is loaded the first time a mapper is requested
+ * for the annotated type.
+ */
+public final class BeanMapperCache {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BeanMapperCache.class);
+
+  /**
+   * The suffix appended to the name of the annotated type to arrive at the name of the
+   * generated class. The annotation processor, which cannot access this package, has its
+   * own copy of this constant.
+   */
+  public static final String SUFFIX = "_BeanMapper";
+
+  private static final Map<Class<?>, BeanMapper<?>> mappers = new ConcurrentHashMap<>();
+  private static final Map<Class<?>, Boolean> loaded = new ConcurrentHashMap<>();
+
+  private BeanMapperCache() { throw new UnsupportedOperationException(); }
+
+  public static void register(Class<?> beanClass, BeanMapper<?> mapper) {
+    mappers.put(beanClass, mapper);
+  }
+
+  /**
+   * Returns the generated {@code BeanMapper} for the specified type, or {@code null} if
+   * there is none.
+   *
+   * @param beanClass the JavaBean or record type
+   * @param <T> the JavaBean or record type
+   * @return the generated {@code BeanMapper}, or {@code null}
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> BeanMapper<T> get(Class<T> beanClass) {
+    loaded.computeIfAbsent(beanClass, BeanMapperCache::load);
+    return (BeanMapper<T>) mappers.get(beanClass);
+  }
+
+  private static Boolean load(Class<?> beanClass) {
+    if (beanClass.isPrimitive() || beanClass.isArray() || beanClass.getClassLoader() == null) {
+      return Boolean.FALSE;
+    }
+    try {
+      // Initializing the class makes it register the mapper
+      Class.forName(beanClass.getName() + SUFFIX, true, beanClass.getClassLoader());
+      LOG.debug("Using generated mapper for {}", beanClass.getName());
+      return Boolean.TRUE;
+    } catch (ClassNotFoundException e) {
+      return Boolean.FALSE;
+    }
+  }
+
+}
@@ -34,6 +34,9 @@ public final class Err {
   public static final String KEY_COUNT_MISMATCH
         = "actual number of database-generated keys (${arg}) does not match expected number (${obj})";
 
+  public static final String CANNOT_BIND_SQL_EXPRESSION
+        = "cannot bind SQL expression to parameterized INSERT statement (property \"${0}\")";
+
   public static final String STALE_QUERY
         = "No query with ID ${0} in cache. It may have gone stale";
 
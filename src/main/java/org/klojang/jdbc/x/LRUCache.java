@@ -0,0 +1,58 @@
+package org.klojang.jdbc.x;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A simple, thread-safe, size-bounded cache that evicts the least recently used entry
+ * once the maximum size is exceeded. Values are created outside the lock, so two threads
+ * asking for the same missing key may both create a value, but only one of them ends up
+ * in the cache and is returned to both.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public final class LRUCache<K, V> {
+
+  private final LinkedHashMap<K, V> map;
+
+  public LRUCache(int maxSize) {
+    this.map = new LinkedHashMap<>(16, .75F, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  public V get(K key, Function<? super K, ? extends V> factory) {
+    V val;
+    synchronized (map) {
+      val = map.get(key);
+    }
+    if (val == null) {
+      V created = factory.apply(key);
+      synchronized (map) {
+        val = map.putIfAbsent(key, created);
+      }
+      if (val == null) {
+        val = created;
+      }
+    }
+    return val;
+  }
+
+  public int size() {
+    synchronized (map) {
+      return map.size();
+    }
+  }
+
+  public void clear() {
+    synchronized (map) {
+      map.clear();
+    }
+  }
+
+}
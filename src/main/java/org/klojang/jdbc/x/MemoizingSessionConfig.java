@@ -0,0 +1,228 @@
+package org.klojang.jdbc.x;
+
+import org.klojang.check.Check;
+import org.klojang.jdbc.CustomBinder;
+import org.klojang.jdbc.CustomReader;
+import org.klojang.jdbc.SessionConfig;
+import org.klojang.templates.NameMapper;
+
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+
+/**
+ * A {@link SessionConfig} that evaluates each method of the {@code SessionConfig} it
+ * wraps at most once per combination of arguments, and then serves the answer from an
+ * append-only hash table. The name mappers and the statement cache size are evaluated
+ * once, up front. The "withers" of a {@code MemoizingSessionConfig} are memoized, too:
+ * calling, say, {@code withEnumsSavedAsStrings()} twice on the same instance returns
+ * the same {@code MemoizingSessionConfig}. Since <i>Klojang JDBC</i> caches binders,
+ * extractors, and SQL objects per {@code SessionConfig} instance, this stable identity
+ * lets those caches hit, rather than miss, for configurations derived using withers.
+ * The withers delegate to the withers of the wrapped {@code SessionConfig}: a derived
+ * configuration is a memoizing version of whatever those return. Thus, like the
+ * default withers, they do not retain any other customizations of the wrapped
+ * {@code SessionConfig}.
+ */
+public final class MemoizingSessionConfig implements SessionConfig {
+
+  /**
+   * Returns a memoizing version of the specified {@code SessionConfig}, or the
+   * {@code SessionConfig} itself if it already is a {@code MemoizingSessionConfig}.
+   *
+   * @param config the {@code SessionConfig} to wrap
+   * @return a memoizing version of the specified {@code SessionConfig}
+   */
+  public static MemoizingSessionConfig of(SessionConfig config) {
+    Check.notNull(config, Strings.CONFIG);
+    if (config instanceof MemoizingSessionConfig msc) {
+      return msc;
+    }
+    return new MemoizingSessionConfig(config);
+  }
+
+  // Stands in for null answers, which ConcurrentHashMap cannot store
+  private static final Object NONE = new Object();
+
+  // The arguments of a SessionConfig method. sqlType is 0 for methods without one.
+  private record Key(Class<?> beanType, String property, Class<?> type, int sqlType) {
+    Key(Class<?> beanType, String property, Class<?> type) {
+      this(beanType, property, type, 0);
+    }
+  }
+
+  // A wither and its argument (if any)
+  private record Derivation(String wither, Object arg) { }
+
+  private final SessionConfig delegate;
+  private final NameMapper propertyToColumnMapper;
+  private final NameMapper columnToPropertyMapper;
+  private final int statementCacheSize;
+
+  private final Map<Key, Object> customBinders = new ConcurrentHashMap<>();
+  private final Map<Key, Object> customReaders = new ConcurrentHashMap<>();
+  private final Map<Key, Object> sqlTypes = new ConcurrentHashMap<>();
+  private final Map<Key, Object> enumsAsString = new ConcurrentHashMap<>();
+  private final Map<Key, Object> formatters = new ConcurrentHashMap<>();
+  private final Map<Key, Object> serializers = new ConcurrentHashMap<>();
+  private final Map<Key, Object> binarySerializers = new ConcurrentHashMap<>();
+  private final Map<Derivation, MemoizingSessionConfig> derived = new ConcurrentHashMap<>();
+
+  private MemoizingSessionConfig(SessionConfig delegate) {
+    this.delegate = delegate;
+    this.propertyToColumnMapper = delegate.getPropertyToColumnMapper();
+    this.columnToPropertyMapper = delegate.getColumnToPropertyMapper();
+    this.statementCacheSize = delegate.getStatementCacheSize();
+  }
+
+  @Override
+  public CustomBinder getCustomBinder(Class<?> beanType,
+        String propertyName,
+        Class<?> propertyType) {
+    return lookup(customBinders,
+          new Key(beanType, propertyName, propertyType),
+          k -> delegate.getCustomBinder(k.beanType(), k.property(), k.type()));
+  }
+
+  @Override
+  public CustomReader getCustomReader(Class<?> beanType,
+        String propertyName,
+        Class<?> propertyType,
+        int sqlType) {
+    return lookup(customReaders,
+          new Key(beanType, propertyName, propertyType, sqlType),
+          k -> delegate.getCustomReader(k.beanType(), k.property(), k.type(), k.sqlType()));
+  }
+
+  @Override
+  public Integer getSQLType(Class<?> beanType, String propertyName, Class<?> propertyType) {
+    return lookup(sqlTypes,
+          new Key(beanType, propertyName, propertyType),
+          k -> delegate.getSQLType(k.beanType(), k.property(), k.type()));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public boolean saveEnumAsString(Class<?> beanType,
+        String enumProperty,
+        Class<? extends Enum<?>> enumType) {
+    Boolean b = lookup(enumsAsString,
+          new Key(beanType, enumProperty, enumType),
+          k -> delegate.saveEnumAsString(k.beanType(),
+                k.property(),
+                (Class<? extends Enum<?>>) k.type()));
+    return b;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public DateTimeFormatter getDateTimeFormatter(Class<?> beanType,
+        String dateTimeProperty,
+        Class<? extends TemporalAccessor> dateTimeType) {
+    return lookup(formatters,
+          new Key(beanType, dateTimeProperty, dateTimeType),
+          k -> delegate.getDateTimeFormatter(k.beanType(),
+                k.property(),
+                (Class<? extends TemporalAccessor>) k.type()));
+  }
+
+  @Override
+  public Function<Object, String> getSerializer(Class<?> beanType,
+        String propertyName,
+        Class<?> propertyType) {
+    return lookup(serializers,
+          new Key(beanType, propertyName, propertyType),
+          k -> delegate.getSerializer(k.beanType(), k.property(), k.type()));
+  }
+
+  @Override
+  public Function<Object, byte[]> getBinarySerializer(Class<?> beanType,
+        String propertyName,
+        Class<?> propertyType) {
+    return lookup(binarySerializers,
+          new Key(beanType, propertyName, propertyType),
+          k -> delegate.getBinarySerializer(k.beanType(), k.property(), k.type()));
+  }
+
+  @Override
+  public NameMapper getPropertyToColumnMapper() {
+    return propertyToColumnMapper;
+  }
+
+  @Override
+  public NameMapper getColumnToPropertyMapper() {
+    return columnToPropertyMapper;
+  }
+
+  @Override
+  public int getStatementCacheSize() {
+    return statementCacheSize;
+  }
+
+  @Override
+  public SessionConfig withPropertyToColumnMapper(NameMapper mapper) {
+    return derive(new Derivation("withPropertyToColumnMapper", mapper),
+          () -> delegate.withPropertyToColumnMapper(mapper));
+  }
+
+  @Override
+  public SessionConfig withColumnToPropertyMapper(NameMapper mapper) {
+    return derive(new Derivation("withColumnToPropertyMapper", mapper),
+          () -> delegate.withColumnToPropertyMapper(mapper));
+  }
+
+  @Override
+  public SessionConfig withNamesMappedAsIs() {
+    return derive(new Derivation("withNamesMappedAsIs", null),
+          delegate::withNamesMappedAsIs);
+  }
+
+  @Override
+  public SessionConfig withLowerCaseColumnNames() {
+    return derive(new Derivation("withLowerCaseColumnNames", null),
+          delegate::withLowerCaseColumnNames);
+  }
+
+  @Override
+  public SessionConfig withEnumsSavedAsStrings() {
+    return derive(new Derivation("withEnumsSavedAsStrings", null),
+          delegate::withEnumsSavedAsStrings);
+  }
+
+  @Override
+  public SessionConfig withStatementCache(int maxSize) {
+    return derive(new Derivation("withStatementCache", maxSize),
+          () -> delegate.withStatementCache(maxSize));
+  }
+
+  @Override
+  public SessionConfig memoize() {
+    return this;
+  }
+
+  // Calls the wrapped instance's wither (which may have been overridden) at most once per
+  // derivation, and memoizes the SessionConfig it returns
+  private SessionConfig derive(Derivation derivation, Supplier<SessionConfig> wither) {
+    MemoizingSessionConfig msc = derived.get(derivation);
+    return msc != null
+          ? msc
+          : derived.computeIfAbsent(derivation, k -> of(wither.get()));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T lookup(Map<Key, Object> memo, Key key, Function<Key, T> fn) {
+    Object val = memo.get(key);
+    if (val == null) {
+      val = memo.computeIfAbsent(key, k -> {
+        T t = fn.apply(k);
+        return t == null ? NONE : t;
+      });
+    }
+    return val == NONE ? null : (T) val;
+  }
+
+}
@@ -3,10 +3,12 @@ package org.klojang.jdbc.x;
 import org.klojang.check.Check;
 import org.klojang.jdbc.SQL;
 import org.klojang.jdbc.SessionConfig;
+import org.klojang.jdbc.x.sql.PrecompiledSQLCache;
 import org.klojang.util.IOMethods;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -16,49 +18,94 @@ import static org.klojang.jdbc.x.Strings.CONFIG;
 
 /**
  * Cache of {@link SQL} objects created using from a classpath resource. Used to minimize
- * file i/o.
+ * file i/o. The cache may be accessed concurrently, and may be warmed up in parallel
+ * using {@link #preload(Class, String[], BiFunction) preload()}.
  */
 public final class SQLCache {
 
-  private record Key(String path, Class<?> clazz, SessionConfig config) {
-    private static Key of(String path, Class<?> clazz, SessionConfig config) {
-      return new Key(path, clazz, config);
+  /**
+   * The type of {@code SQL} object created from the contents of a SQL file. Part of the
+   * cache key, so that the same file may be used to create, say, both a simple SQL
+   * object and a SQL template.
+   */
+  public enum Kind {STATIC, SIMPLE, TEMPLATE, SKELETON}
+
+  private record Key(Kind kind, String path, Class<?> clazz, SessionConfig config) {
+    private static Key of(Kind kind, String path, Class<?> clazz, SessionConfig config) {
+      return new Key(kind, path, clazz, config);
     }
 
-    private static Key of(String path, Class<?> clazz) {
-      return new Key(path, clazz, Utils.DEFAULT_CONFIG);
+    private static Key of(Kind kind, String path, Class<?> clazz) {
+      return new Key(kind, path, clazz, Utils.DEFAULT_CONFIG);
     }
   }
 
-  private static final Map<Key, SQL> cache = new HashMap<>();
+  private static final Map<Key, SQL> cache = new ConcurrentHashMap<>(64);
+
+  private SQLCache() { throw new UnsupportedOperationException(); }
 
-  public static SQL get(Class<?> clazz, String path, Function<String, SQL> factory) {
+  public static SQL get(Kind kind,
+        Class<?> clazz,
+        String path,
+        Function<String, SQL> factory) {
     Check.notNull(clazz, CLASS);
     Check.notNull(path, PATH);
-    return cache.computeIfAbsent(Key.of(path, clazz), k -> {
-      try {
-        String sql = IOMethods.getContents(clazz, path);
-        return factory.apply(sql);
-      } catch (Throwable t) {
-        throw Utils.wrap(t);
-      }
-    });
+    Key key = Key.of(kind, path, clazz);
+    SQL sql = cache.get(key);
+    return sql != null ? sql : store(key, factory.apply(load(key)));
   }
 
-  public static SQL get(Class<?> clazz,
+  public static SQL get(Kind kind,
+        Class<?> clazz,
         String path,
         SessionConfig config,
         BiFunction<SessionConfig, String, SQL> factory) {
     Check.notNull(clazz, CLASS);
     Check.notNull(path, PATH);
     Check.notNull(config, CONFIG);
-    return cache.computeIfAbsent(Key.of(path, clazz, config), k -> {
-      try {
-        String sql = IOMethods.getContents(clazz, path);
-        return factory.apply(config, sql);
-      } catch (Throwable t) {
-        throw Utils.wrap(t);
-      }
-    });
+    Key key = Key.of(kind, path, clazz, config);
+    SQL sql = cache.get(key);
+    return sql != null ? sql : store(key, factory.apply(config, load(key)));
+  }
+
+  /**
+   * Loads and parses the specified SQL files in parallel, using the specified function
+   * (e.g. {@code SQL::template}) to create and cache the {@code SQL} objects.
+   *
+   * @param clazz the class used to access the SQL files
+   * @param paths the locations of the SQL files
+   * @param loader the function that creates the {@code SQL} objects
+   */
+  public static void preload(Class<?> clazz,
+        String[] paths,
+        BiFunction<Class<?>, String, SQL> loader) {
+    Check.notNull(clazz, CLASS);
+    Check.notNull(paths, PATH);
+    Arrays.stream(paths).parallel().forEach(path -> loader.apply(clazz, path));
+  }
+
+  public static int size() {
+    return cache.size();
+  }
+
+  // File i/o and parsing take place before, and outside the map's internal locks (unlike
+  // with computeIfAbsent), so that preloading files in parallel does not serialize on
+  // them. Under contention the same file may get loaded twice, but only the first SQL
+  // object ever gets cached and returned.
+  private static SQL store(Key key, SQL sql) {
+    SQL prev = cache.putIfAbsent(key, sql);
+    return prev == null ? sql : prev;
+  }
+
+  private static String load(Key key) {
+    String sql = PrecompiledSQLCache.getSQL(key.clazz(), key.path());
+    if (sql != null) {
+      return sql;
+    }
+    try {
+      return IOMethods.getContents(key.clazz(), key.path());
+    } catch (Throwable t) {
+      throw Utils.wrap(t);
+    }
   }
 }
@@ -0,0 +1,248 @@
+package org.klojang.jdbc.x;
+
+import org.klojang.jdbc.x.sql.ParameterInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.sql.Statement.NO_GENERATED_KEYS;
+import static java.sql.Statement.RETURN_GENERATED_KEYS;
+
+/**
+ * Per-connection LRU cache of {@link PreparedStatement} objects. A statement handed out
+ * by the cache is removed from it until it is {@linkplain #release(PreparedStatement)
+ * released} again, so no two {@code SQLStatement} instances will ever share the same
+ * {@code PreparedStatement}. Statements that get evicted from the cache are closed.
+ * Each connection's cache has its own lock, so sessions on different connections do not
+ * contend with each other. The cache of a connection is dropped as soon as a statement
+ * is released after the connection has been closed. Caches of connections that were
+ * closed while none of their statements were in use are purged whenever a cache for a
+ * new connection is created.
+ */
+public final class StatementCache {
+
+  private static final Logger LOG = LoggerFactory.getLogger(StatementCache.class);
+
+  private record Key(String sql, boolean retrieveKeys) { }
+
+  private record Lease(Connection con, Key key) { }
+
+  // Compares the wrapped object by identity, as connections and statements should be
+  private record Ref<T>(T obj) {
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof Ref<?> ref && ref.obj == obj;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(obj);
+    }
+  }
+
+  // Guarded by itself
+  private static final class LRU extends LinkedHashMap<Key, PreparedStatement> {
+
+    private int maxSize;
+
+    LRU(int maxSize) {
+      super(16, .75F, true);
+      this.maxSize = maxSize;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Key, PreparedStatement> eldest) {
+      if (size() > maxSize) {
+        close(eldest.getValue());
+        return true;
+      }
+      return false;
+    }
+
+    synchronized void closeAll() {
+      values().forEach(StatementCache::close);
+      clear();
+    }
+  }
+
+  private static final Map<Ref<Connection>, LRU> caches = new ConcurrentHashMap<>();
+  private static final Map<Ref<PreparedStatement>, Lease> leases =
+        new ConcurrentHashMap<>();
+
+  private StatementCache() { throw new UnsupportedOperationException(); }
+
+  /**
+   * Returns a cached {@code PreparedStatement} for the specified SQL, or a newly created
+   * one if there is none.
+   *
+   * @param con the connection
+   * @param paramInfo provides the normalized SQL
+   * @param retrieveKeys whether the statement must return database-generated keys
+   * @param maxSize the maximum number of statements to keep for the connection
+   * @return a {@code PreparedStatement}
+   */
+  public static PreparedStatement get(Connection con,
+        ParameterInfo paramInfo,
+        boolean retrieveKeys,
+        int maxSize) {
+    PreparedStatement ps = lease(con, paramInfo.normalizedSQL(), retrieveKeys, maxSize);
+    if (ps == null) {
+      ps = retrieveKeys
+            ? JDBC.getPreparedStatement(con, paramInfo, true)
+            : JDBC.getPreparedStatement(con, paramInfo);
+      register(con, paramInfo.normalizedSQL(), retrieveKeys, ps);
+    }
+    return ps;
+  }
+
+  /**
+   * Returns a cached {@code PreparedStatement} for the specified (ready-to-use) SQL, or
+   * a newly created one if there is none.
+   *
+   * @param con the connection
+   * @param sql the SQL
+   * @param retrieveKeys whether the statement must return database-generated keys
+   * @param maxSize the maximum number of statements to keep for the connection
+   * @return a {@code PreparedStatement}
+   * @throws SQLException if the statement could not be created
+   */
+  public static PreparedStatement get(Connection con,
+        String sql,
+        boolean retrieveKeys,
+        int maxSize) throws SQLException {
+    PreparedStatement ps = lease(con, sql, retrieveKeys, maxSize);
+    if (ps == null) {
+      ps = con.prepareStatement(sql,
+            retrieveKeys ? RETURN_GENERATED_KEYS : NO_GENERATED_KEYS);
+      register(con, sql, retrieveKeys, ps);
+    }
+    return ps;
+  }
+
+  private static PreparedStatement lease(Connection con,
+        String sql,
+        boolean retrieveKeys,
+        int maxSize) {
+    Key key = new Key(sql, retrieveKeys);
+    Ref<Connection> ref = new Ref<>(con);
+    LRU lru = caches.get(ref);
+    if (lru == null) {
+      purge();
+      lru = caches.computeIfAbsent(ref, k -> new LRU(maxSize));
+    }
+    PreparedStatement ps;
+    synchronized (lru) {
+      if (maxSize > lru.maxSize) {
+        lru.maxSize = maxSize;
+      }
+      ps = lru.remove(key);
+    }
+    if (ps != null && !isClosed(ps)) {
+      leases.put(new Ref<>(ps), new Lease(con, key));
+      return ps;
+    }
+    return null;
+  }
+
+  private static void register(Connection con,
+        String sql,
+        boolean retrieveKeys,
+        PreparedStatement ps) {
+    leases.put(new Ref<>(ps), new Lease(con, new Key(sql, retrieveKeys)));
+  }
+
+  /**
+   * Returns the specified statement to the cache. Returns {@code false} if the statement
+   * was not obtained from the cache, in which case the caller remains responsible for
+   * closing it.
+   *
+   * @param ps the statement
+   * @return whether the statement was obtained from the cache
+   */
+  public static boolean release(PreparedStatement ps) {
+    Lease lease = leases.remove(new Ref<>(ps));
+    if (lease == null) {
+      return false;
+    }
+    Ref<Connection> ref = new Ref<>(lease.con());
+    LRU lru = caches.get(ref);
+    if (lru != null && isClosed(lease.con())) {
+      // Drop the cache now, rather than waiting for the next new connection to come by
+      if (caches.remove(ref, lru)) {
+        lru.closeAll();
+      }
+      lru = null;
+    }
+    if (lru == null || isClosed(ps)) {
+      close(ps);
+      return true;
+    }
+    try {
+      ps.clearParameters();
+      ps.clearBatch();
+      ps.setFetchSize(0);
+    } catch (SQLException e) {
+      LOG.debug("Discarding statement: {}", e.toString());
+      close(ps);
+      return true;
+    }
+    PreparedStatement other;
+    synchronized (lru) {
+      other = lru.put(lease.key(), ps);
+    }
+    if (other != null) {
+      close(other);
+    }
+    return true;
+  }
+
+  /**
+   * Returns the number of connections for which statements are cached.
+   *
+   * @return the number of connections for which statements are cached
+   */
+  public static int size() {
+    return caches.size();
+  }
+
+  private static void purge() {
+    caches.entrySet().removeIf(e -> {
+      if (isClosed(e.getKey().obj())) {
+        e.getValue().closeAll();
+        return true;
+      }
+      return false;
+    });
+  }
+
+  private static boolean isClosed(Connection con) {
+    try {
+      return con.isClosed();
+    } catch (SQLException e) {
+      return true;
+    }
+  }
+
+  private static boolean isClosed(PreparedStatement ps) {
+    try {
+      return ps.isClosed();
+    } catch (SQLException e) {
+      return true;
+    }
+  }
+
+  private static void close(PreparedStatement ps) {
+    try {
+      ps.close();
+    } catch (SQLException e) {
+      // ...
+    }
+  }
+
+}
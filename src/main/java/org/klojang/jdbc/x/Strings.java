@@ -15,12 +15,22 @@ public final class Strings {
   public static final String CLAZZ = "beanClass";
   public static final String ID_PROPERTY = "ID property";
   public static final String ID_KEY = "ID key";
+  public static final String BEAN = "bean";
   public static final String BEAN_SUPPLIER = "bean supplier";
   public static final String COLUMN_TO_PROPERTY_MAPPER = "column-to-property mapper";
   public static final String CONFIG = "config";
   public static final String SQL_ARGUMENT = "sql";
   public static final String CONNECTION = "connection";
   public static final String QUERY = "query";
+  public static final String FETCH_SIZE = "fetchSize";
+  public static final String COLUMN = "column";
+  public static final String ROW = "row";
+  public static final String DATA_SOURCE = "dataSource";
+  public static final String LISTENER = "listener";
+  public static final String TARGET_CHUNK_TIME = "targetChunkTime";
+  public static final String LOADER = "loader";
+  public static final String ACTION = "action";
+  public static final String COLLECTOR = "collector";
 
   private Strings() { throw new UnsupportedOperationException(); }
 
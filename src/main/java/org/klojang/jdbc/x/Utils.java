@@ -12,7 +12,7 @@ import java.lang.ref.Cleaner;
 
 public final class Utils {
 
-  public static final SessionConfig DEFAULT_CONFIG = new SessionConfig() { };
+  public static final SessionConfig DEFAULT_CONFIG = new SessionConfig() { }.memoize();
 
   public static final Cleaner CENTRAL_CLEANER = Cleaner.create();
 
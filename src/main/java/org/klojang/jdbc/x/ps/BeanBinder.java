@@ -14,11 +14,13 @@ public final class BeanBinder<T> {
 
   private final List<NamedParameter> bound = new ArrayList<>();
 
+  private final List<NamedParameter> params;
   private final PropertyBinder<?, ?>[] readers;
 
   // Creates a BeanBinder capable binding JavaBeans of the specified type to a query
   // containing the specified named parameters.
   public BeanBinder(Class<T> beanClass, List<NamedParameter> params, SessionConfig config) {
+    this.params = params;
     readers = PropertyBinder.createReaders(beanClass, params, config, bound);
   }
 
@@ -26,6 +28,11 @@ public final class BeanBinder<T> {
     PropertyBinder.readAll(ps, bean, readers);
   }
 
+  // Returns true if this BeanBinder was created for the specified named parameters.
+  public boolean isFor(List<NamedParameter> params) {
+    return this.params == params || this.params.equals(params);
+  }
+
   // Returns all parameters in the SQL that can be bound by this BeanBinder.
   public List<NamedParameter> getBoundParameters() {
     return List.copyOf(bound);
@@ -1,6 +1,7 @@
 package org.klojang.jdbc.x.ps;
 
 import org.klojang.jdbc.SessionConfig;
+import org.klojang.jdbc.x.LRUCache;
 import org.klojang.jdbc.x.ps.writer.EnumBinderLookup;
 import org.klojang.jdbc.x.sql.NamedParameter;
 import org.slf4j.Logger;
@@ -10,6 +11,7 @@ import java.sql.PreparedStatement;
 import java.sql.Types;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -21,81 +23,169 @@ import static org.klojang.jdbc.x.ps.PreparedStatementMethod.SET_STRING;
 import static org.klojang.util.ClassMethods.isSubtype;
 
 /**
- * Binds the values within in a Map to a PreparedStatement.
+ * Binds the values within in a Map to a PreparedStatement. How a value gets bound
+ * depends on the type of the map, the name of the parameter, and the type of the value.
+ * Resolving this is relatively expensive, so the result is cached as a {@code Plan}
+ * per map type and value-type signature (the types of the values bound to the
+ * parameters, with absent keys and null values marked as such). Maps that have the same
+ * shape as the previous map are bound using the previous plan.
  */
 public final class MapBinder {
 
   private static final Logger LOG = LoggerFactory.getLogger(MapBinder.class);
 
+  // Plans cached per MapBinder. Typically there is just one.
+  private static final int MAX_PLANS = 16;
+
+  // Value-type markers for absent keys and null values
+  private static final Class<?> ABSENT = void.class;
+  private static final Class<?> NULL = Void.class;
+
+  private record PlanKey(Class<?> mapType, Class<?>[] valueTypes) {
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof PlanKey other
+            && mapType == other.mapType
+            && Arrays.equals(valueTypes, other.valueTypes);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * mapType.hashCode() + Arrays.hashCode(valueTypes);
+    }
+  }
+
+  // How to bind a single, non-null value. Exactly one of vb and custom is non-null.
+  @SuppressWarnings("rawtypes")
+  private record Step(ValueBinder vb, CustomBinder custom) { }
+
+  private record Plan(Class<?> mapType, Class<?>[] valueTypes, Step[] steps) { }
+
   private final List<NamedParameter> params;
   private final SessionConfig config;
+  private final LRUCache<PlanKey, Plan> plans = new LRUCache<>(MAX_PLANS);
+
+  private volatile Plan last;
 
   public MapBinder(List<NamedParameter> params, SessionConfig config) {
     this.params = params;
     this.config = config;
   }
 
-  @SuppressWarnings({"unchecked", "rawtypes"})
+  // Returns true if this MapBinder was created for the specified named parameters.
+  public boolean isFor(List<NamedParameter> params) {
+    return this.params == params || this.params.equals(params);
+  }
+
   public void bind(PreparedStatement stmt, Map<String, Object> map,
         Set<NamedParameter> bound) throws Throwable {
-    for (NamedParameter param : params) {
-      String key = param.name();
-      if (!map.containsKey(key)) {
+    Plan plan = last;
+    if (plan == null || !matches(plan, map)) {
+      Class<?>[] types = getValueTypes(map);
+      PlanKey key = new PlanKey(map.getClass(), types);
+      last = plan = plans.get(key, k -> createPlan(k.mapType(), k.valueTypes()));
+    }
+    bind(stmt, map, bound, plan);
+  }
+
+  private void bind(PreparedStatement stmt,
+        Map<String, Object> map,
+        Set<NamedParameter> bound,
+        Plan plan) throws Throwable {
+    Class<?>[] types = plan.valueTypes();
+    Step[] steps = plan.steps();
+    for (int i = 0; i < steps.length; ++i) {
+      if (types[i] == ABSENT) {
         continue;
       }
+      NamedParameter param = params.get(i);
       bound.add(param);
-      Object val = map.get(key);
-      if (val == null) {
-        LOG.trace("==> Parameter \"{}\": null", key);
-        param.positions().forEachThrowing(i -> stmt.setNull(i, Types.OTHER));
-        continue;
-      }
-      Class mapType = map.getClass();
-      Class valType = val.getClass();
-      CustomBinder cb = config.getCustomBinder(mapType, key, valType);
-      if (cb != null) {
-        LOG.trace("==> Parameter \"{}\": {} (using custom binder)", key, val);
-        param.positions().forEachThrowing(i -> cb.bind(stmt, i, val));
-        continue;
-      }
-      Integer sqlType = config.getSQLType(mapType, key, valType);
-      if (sqlType != null) {
-        ValueBinderFactory factory = ValueBinderFactory.getInstance();
-        ValueBinder vb = factory.getBinder(valType, sqlType);
-        bind(stmt, param, vb, val);
-        continue;
-      }
-      if (isSubtype(valType, Enum.class)) {
-        ValueBinder vb = config.saveEnumAsString(mapType, key, valType)
-              ? ValueBinder.ANY_TO_STRING
-              : EnumBinderLookup.DEFAULT;
-        bind(stmt, param, vb, val);
-        continue;
-      }
-      if (isSubtype(valType, TemporalAccessor.class)) {
-        DateTimeFormatter dtf = config.getDateTimeFormatter(mapType, key, valType);
-        if (dtf != null) {
-          ValueBinder vb = ValueBinder.dateTimeToString(dtf);
-          bind(stmt, param, vb, val);
-          continue;
-        }
+      if (types[i] == NULL) {
+        LOG.trace("==> Parameter \"{}\": null", param.name());
+        param.positions().forEachThrowing(j -> stmt.setNull(j, Types.OTHER));
+      } else if (steps[i].custom() != null) {
+        Object val = map.get(param.name());
+        LOG.trace("==> Parameter \"{}\": {} (using custom binder)", param.name(), val);
+        CustomBinder cb = steps[i].custom();
+        param.positions().forEachThrowing(j -> cb.bind(stmt, j, val));
+      } else {
+        bind(stmt, param, steps[i].vb(), map.get(param.name()));
       }
-      Function<Object, String> ser0 = config.getSerializer(mapType, key, valType);
-      if (ser0 != null) {
-        ValueBinder vb = new ValueBinder<>(SET_STRING, ser0);
-        bind(stmt, param, vb, val);
-        continue;
+    }
+  }
+
+  private boolean matches(Plan plan, Map<String, Object> map) {
+    if (plan.mapType() != map.getClass()) {
+      return false;
+    }
+    Class<?>[] types = plan.valueTypes();
+    for (int i = 0; i < types.length; ++i) {
+      if (types[i] != getValueType(map, params.get(i).name())) {
+        return false;
       }
-      Function<Object, byte[]> ser1 = config.getBinarySerializer(mapType, key, valType);
-      if (ser1 != null) {
-        ValueBinder vb = new ValueBinder<>(SET_BYTES, ser1);
-        bind(stmt, param, vb, val);
-        continue;
+    }
+    return true;
+  }
+
+  private Class<?>[] getValueTypes(Map<String, Object> map) {
+    Class<?>[] types = new Class[params.size()];
+    for (int i = 0; i < types.length; ++i) {
+      types[i] = getValueType(map, params.get(i).name());
+    }
+    return types;
+  }
+
+  private static Class<?> getValueType(Map<String, Object> map, String key) {
+    Object val = map.get(key);
+    if (val != null) {
+      return val.getClass();
+    }
+    return map.containsKey(key) ? NULL : ABSENT;
+  }
+
+  private Plan createPlan(Class<?> mapType, Class<?>[] types) {
+    Step[] steps = new Step[types.length];
+    for (int i = 0; i < types.length; ++i) {
+      if (types[i] != ABSENT && types[i] != NULL) {
+        steps[i] = createStep(mapType, params.get(i).name(), types[i]);
       }
+    }
+    return new Plan(mapType, types, steps);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private Step createStep(Class mapType, String key, Class valType) {
+    CustomBinder cb = config.getCustomBinder(mapType, key, valType);
+    if (cb != null) {
+      return new Step(null, cb);
+    }
+    Integer sqlType = config.getSQLType(mapType, key, valType);
+    if (sqlType != null) {
       ValueBinderFactory factory = ValueBinderFactory.getInstance();
-      ValueBinder vb = factory.getDefaultBinder(valType);
-      bind(stmt, param, vb, val);
+      return new Step(factory.getBinder(valType, sqlType), null);
+    }
+    if (isSubtype(valType, Enum.class)) {
+      ValueBinder vb = config.saveEnumAsString(mapType, key, valType)
+            ? ValueBinder.ANY_TO_STRING
+            : EnumBinderLookup.DEFAULT;
+      return new Step(vb, null);
+    }
+    if (isSubtype(valType, TemporalAccessor.class)) {
+      DateTimeFormatter dtf = config.getDateTimeFormatter(mapType, key, valType);
+      if (dtf != null) {
+        return new Step(ValueBinder.dateTimeToString(dtf), null);
+      }
+    }
+    Function<Object, String> ser0 = config.getSerializer(mapType, key, valType);
+    if (ser0 != null) {
+      return new Step(new ValueBinder<>(SET_STRING, ser0), null);
+    }
+    Function<Object, byte[]> ser1 = config.getBinarySerializer(mapType, key, valType);
+    if (ser1 != null) {
+      return new Step(new ValueBinder<>(SET_BYTES, ser1), null);
     }
+    ValueBinderFactory factory = ValueBinderFactory.getInstance();
+    return new Step(factory.getDefaultBinder(valType), null);
   }
 
   @SuppressWarnings({"rawtypes", "unchecked"})
@@ -0,0 +1,142 @@
+package org.klojang.jdbc.x.ps;
+
+import org.klojang.invoke.Getter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.PreparedStatement;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/*
+ * Binds a primitive bean property or record component to a PreparedStatement when the
+ * PreparedStatement.setXXX() method takes that same primitive type. The getter is
+ * invoked through an exactly-typed MethodHandle, so the value is never boxed on its way
+ * from the bean to the PreparedStatement.
+ */
+abstract sealed class PrimitiveBinder {
+
+  /*
+   * Returns a PrimitiveBinder for the specified getter and PreparedStatement method, or
+   * null if the getter and the PreparedStatement method do not deal in the same
+   * primitive type, or if the getter cannot be accessed through a MethodHandle.
+   */
+  static PrimitiveBinder create(Class<?> beanClass,
+        Getter getter,
+        PreparedStatementMethod<?> method,
+        int[] positions) {
+    Class<?> type = getter.getReturnType();
+    if (!type.isPrimitive() || type != method.getParamType()) {
+      return null;
+    }
+    MethodHandle mh;
+    try {
+      mh = getterHandle(beanClass, getter).asType(methodType(type, Object.class));
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+    if (type == int.class) {
+      return new IntBinder(mh, positions);
+    } else if (type == long.class) {
+      return new LongBinder(mh, positions);
+    } else if (type == double.class) {
+      return new DoubleBinder(mh, positions);
+    } else if (type == boolean.class) {
+      return new BooleanBinder(mh, positions);
+    } else if (type == float.class) {
+      return new FloatBinder(mh, positions);
+    } else if (type == short.class) {
+      return new ShortBinder(mh, positions);
+    } else if (type == byte.class) {
+      return new ByteBinder(mh, positions);
+    }
+    return null;
+  }
+
+  final MethodHandle getter;
+  final int[] positions;
+
+  private PrimitiveBinder(MethodHandle getter, int[] positions) {
+    this.getter = getter;
+    this.positions = positions;
+  }
+
+  abstract void bind(PreparedStatement ps, Object bean) throws Throwable;
+
+  //@formatter:off
+  private static final class IntBinder extends PrimitiveBinder {
+    IntBinder(MethodHandle getter, int[] positions) { super(getter, positions); }
+    void bind(PreparedStatement ps, Object bean) throws Throwable {
+      int val = (int) getter.invokeExact(bean);
+      for (int i : positions) { ps.setInt(i, val); }
+    }
+  }
+  private static final class LongBinder extends PrimitiveBinder {
+    LongBinder(MethodHandle getter, int[] positions) { super(getter, positions); }
+    void bind(PreparedStatement ps, Object bean) throws Throwable {
+      long val = (long) getter.invokeExact(bean);
+      for (int i : positions) { ps.setLong(i, val); }
+    }
+  }
+  private static final class DoubleBinder extends PrimitiveBinder {
+    DoubleBinder(MethodHandle getter, int[] positions) { super(getter, positions); }
+    void bind(PreparedStatement ps, Object bean) throws Throwable {
+      double val = (double) getter.invokeExact(bean);
+      for (int i : positions) { ps.setDouble(i, val); }
+    }
+  }
+  private static final class BooleanBinder extends PrimitiveBinder {
+    BooleanBinder(MethodHandle getter, int[] positions) { super(getter, positions); }
+    void bind(PreparedStatement ps, Object bean) throws Throwable {
+      boolean val = (boolean) getter.invokeExact(bean);
+      for (int i : positions) { ps.setBoolean(i, val); }
+    }
+  }
+  private static final class FloatBinder extends PrimitiveBinder {
+    FloatBinder(MethodHandle getter, int[] positions) { super(getter, positions); }
+    void bind(PreparedStatement ps, Object bean) throws Throwable {
+      float val = (float) getter.invokeExact(bean);
+      for (int i : positions) { ps.setFloat(i, val); }
+    }
+  }
+  private static final class ShortBinder extends PrimitiveBinder {
+    ShortBinder(MethodHandle getter, int[] positions) { super(getter, positions); }
+    void bind(PreparedStatement ps, Object bean) throws Throwable {
+      short val = (short) getter.invokeExact(bean);
+      for (int i : positions) { ps.setShort(i, val); }
+    }
+  }
+  private static final class ByteBinder extends PrimitiveBinder {
+    ByteBinder(MethodHandle getter, int[] positions) { super(getter, positions); }
+    void bind(PreparedStatement ps, Object bean) throws Throwable {
+      byte val = (byte) getter.invokeExact(bean);
+      for (int i : positions) { ps.setByte(i, val); }
+    }
+  }
+  //@formatter:on
+
+  // Returns a MethodHandle of type (<bean class>)<property type>
+  private static MethodHandle getterHandle(Class<?> beanClass, Getter getter)
+        throws ReflectiveOperationException {
+    String property = getter.getProperty();
+    Method method;
+    if (beanClass.isRecord()) {
+      method = beanClass.getMethod(property);
+    } else {
+      String suffix = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+      try {
+        method = beanClass.getMethod("get" + suffix);
+      } catch (NoSuchMethodException e) {
+        method = beanClass.getMethod("is" + suffix);
+      }
+    }
+    if (Modifier.isStatic(method.getModifiers())
+          || method.getReturnType() != getter.getReturnType()) {
+      throw new NoSuchMethodException(method.getName());
+    }
+    return MethodHandles.publicLookup().unreflect(method);
+  }
+
+}
@@ -2,7 +2,9 @@ package org.klojang.jdbc.x.ps;
 
 import org.klojang.invoke.Getter;
 import org.klojang.invoke.GetterFactory;
+import org.klojang.jdbc.BeanMapper;
 import org.klojang.jdbc.SessionConfig;
+import org.klojang.jdbc.x.BeanMapperCache;
 import org.klojang.jdbc.x.ps.writer.EnumBinderLookup;
 import org.klojang.jdbc.x.sql.NamedParameter;
 import org.slf4j.Logger;
@@ -49,64 +51,104 @@ final class PropertyBinder<INPUT_TYPE, PARAM_TYPE> {
         SessionConfig config,
         List<NamedParameter> bound) {
     ValueBinderFactory factory = ValueBinderFactory.getInstance();
-    Map<String, Getter> getters = GetterFactory.INSTANCE.getGetters(beanClass, true);
+    BeanMapper mapper = BeanMapperCache.get(beanClass);
+    Map<String, Getter> getters = getGetters(beanClass, mapper);
     List<PropertyBinder> readers = new ArrayList<>(params.size());
     for (NamedParameter param : params) {
-      Getter getter = getters.get(param.name());
-      if (getter == null) {
+      String property = param.name();
+      Getter getter = getters.get(property);
+      int index = -1;
+      Class type;
+      if (getter != null) {
+        type = getter.getReturnType();
+      } else if (mapper != null && (index = mapper.getReadableIndex(property)) != -1) {
+        // Only use the generated mapper if we cannot reach the getter ourselves. The
+        // mapper returns primitive values boxed, so it cannot use a PrimitiveBinder.
+        type = mapper.getReadableType(index);
+      } else {
         continue;
       }
       bound.add(param);
-      String property = param.name();
-      Class type = getter.getReturnType();
+      PropertyBinder pb;
       CustomBinder custom = config.getCustomBinder(beanClass, property, type);
+      Integer sqlType;
+      DateTimeFormatter dtf;
+      Function<Object, String> ser0;
+      Function<Object, byte[]> ser1;
       if (custom != null) {
-        readers.add(new PropertyBinder(getter, param, custom));
-        continue;
-      }
-      Integer sqlType = config.getSQLType(beanClass, property, type);
-      if (sqlType != null) {
+        pb = new PropertyBinder(getter, param, custom);
+      } else if ((sqlType = config.getSQLType(beanClass, property, type)) != null) {
         ValueBinder vb = factory.getBinder(type, sqlType);
-        readers.add(new PropertyBinder(getter, param, vb));
-        continue;
-      }
-      if (isSubtype(type, Enum.class)) {
+        pb = newBinder(beanClass, getter, param, vb);
+      } else if (isSubtype(type, Enum.class)) {
         ValueBinder vb = config.saveEnumAsString(beanClass, property, type)
               ? ValueBinder.ANY_TO_STRING
               : EnumBinderLookup.DEFAULT;
-        readers.add(new PropertyBinder(getter, param, vb));
-        continue;
-      }
-      if (isSubtype(type, TemporalAccessor.class)) {
-        DateTimeFormatter dtf = config.getDateTimeFormatter(beanClass, property, type);
-        if (dtf != null) {
-          ValueBinder vb = ValueBinder.dateTimeToString(dtf);
-          readers.add(new PropertyBinder(getter, param, vb));
-          continue;
-        }
-      }
-      Function<Object, String> ser0 = config.getSerializer(beanClass, property, type);
-      if (ser0 != null) {
+        pb = new PropertyBinder(getter, param, vb);
+      } else if (isSubtype(type, TemporalAccessor.class)
+            && (dtf = config.getDateTimeFormatter(beanClass, property, type)) != null) {
+        ValueBinder vb = ValueBinder.dateTimeToString(dtf);
+        pb = new PropertyBinder(getter, param, vb);
+      } else if ((ser0 = config.getSerializer(beanClass, property, type)) != null) {
         ValueBinder vb = new ValueBinder<>(SET_STRING, ser0);
-        readers.add(new PropertyBinder(getter, param, vb));
-        continue;
-      }
-      Function<Object, byte[]> ser1 = config.getBinarySerializer(beanClass, property, type);
-      if (ser1 != null) {
+        pb = new PropertyBinder(getter, param, vb);
+      } else if ((ser1 = config.getBinarySerializer(beanClass, property, type)) != null) {
         ValueBinder vb = new ValueBinder<>(SET_BYTES, ser1);
-        readers.add(new PropertyBinder(getter, param, vb));
-        continue;
+        pb = new PropertyBinder(getter, param, vb);
+      } else {
+        ValueBinder vb = factory.getDefaultBinder(type);
+        pb = newBinder(beanClass, getter, param, vb);
       }
-      ValueBinder vb = factory.getDefaultBinder(type);
-      readers.add(new PropertyBinder(getter, param, vb));
+      if (getter == null) {
+        pb.mapper = mapper;
+        pb.index = index;
+      }
+      readers.add(pb);
     }
     return readers.toArray(PropertyBinder[]::new);
   }
 
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private static Map<String, Getter> getGetters(Class beanClass, BeanMapper mapper) {
+    try {
+      return GetterFactory.INSTANCE.getGetters(beanClass, true);
+    } catch (RuntimeException e) {
+      if (mapper == null) {
+        throw e;
+      }
+      // E.g. a non-public class. The generated mapper can still reach the getters.
+      return Map.of();
+    }
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private static PropertyBinder newBinder(Class beanClass,
+        Getter getter,
+        NamedParameter param,
+        ValueBinder vb) {
+    PropertyBinder pb = new PropertyBinder(getter, param, vb);
+    if (getter != null
+          && getter.getReturnType().isPrimitive()
+          && !vb.isAdaptive()
+          && !LOG.isTraceEnabled()) {
+      pb.primitive = PrimitiveBinder.create(beanClass,
+            getter,
+            vb.getSetter(),
+            param.positions().toArray());
+    }
+    return pb;
+  }
+
   private final Getter getter;
   private final ValueBinder<INPUT_TYPE, PARAM_TYPE> binder;
   private final NamedParameter param;
   private final CustomBinder customBinder;
+  // Set if the property can be bound without boxing
+  private PrimitiveBinder primitive;
+  // Set (instead of the getter) if the getter is only accessible to the BeanMapper
+  // generated for the bean class
+  private BeanMapper mapper;
+  private int index;
 
   private PropertyBinder(Getter getter,
         NamedParameter param, ValueBinder<INPUT_TYPE, PARAM_TYPE> binder) {
@@ -123,9 +165,15 @@ final class PropertyBinder<INPUT_TYPE, PARAM_TYPE> {
     this.binder = null;
   }
 
-  @SuppressWarnings("unchecked")
+  @SuppressWarnings({"rawtypes", "unchecked"})
   private <T> void bindProperty(PreparedStatement ps, T bean) throws Throwable {
-    INPUT_TYPE beanValue = (INPUT_TYPE) getter.read(bean);
+    if (primitive != null) {
+      primitive.bind(ps, bean);
+      return;
+    }
+    INPUT_TYPE beanValue = mapper == null
+          ? (INPUT_TYPE) getter.read(bean)
+          : (INPUT_TYPE) mapper.get(bean, index);
     if (customBinder != null) {
       if (LOG.isTraceEnabled()) {
         LOG.trace("==> Parameter \"{}\": {} (using custom binder)",
@@ -140,7 +188,7 @@ final class PropertyBinder<INPUT_TYPE, PARAM_TYPE> {
           String fmt = "==> Parameter \"{}\": {} (original value: {})";
           LOG.trace(fmt, param.name(), paramValue, beanValue);
         } else {
-          LOG.trace("==> Parameter \"{}\": {}", getter.getProperty(), paramValue);
+          LOG.trace("==> Parameter \"{}\": {}", param.name(), paramValue);
         }
       }
       param.positions().forEachThrowing(i -> binder.bind(ps, i, paramValue));
@@ -0,0 +1,53 @@
+package org.klojang.jdbc.x.ps;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+
+/**
+ * Binds rows of values to a multi-row INSERT statement of the form
+ * {@code INSERT INTO T(A,B) VALUES (?,?),(?,?),...}. The binder for a column is
+ * determined by the type of the value in it. Since the values in a column normally all
+ * have the same type, the binder is cached per column and only looked up again if the
+ * type of the value changes. Instances are not thread-safe.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public final class RowBinder {
+
+  private final Class[] types;
+  private final ValueBinder[] binders;
+
+  public RowBinder(int columnCount) {
+    this.types = new Class[columnCount];
+    this.binders = new ValueBinder[columnCount];
+  }
+
+  /**
+   * Binds the specified values to the parameters of the specified row.
+   *
+   * @param ps the {@code PreparedStatement}
+   * @param row the (zero-based) row number
+   * @param values the values of the row, in column order
+   * @throws Throwable if a value cannot be bound
+   */
+  public void bind(PreparedStatement ps, int row, Object[] values) throws Throwable {
+    int offset = row * types.length + 1;
+    for (int i = 0; i < types.length; ++i) {
+      Object val = values[i];
+      if (val == null) {
+        ps.setNull(offset + i, Types.OTHER);
+      } else {
+        ValueBinder vb = getBinder(i, val.getClass());
+        vb.bind(ps, offset + i, vb.getParamValue(val));
+      }
+    }
+  }
+
+  private ValueBinder getBinder(int column, Class type) {
+    if (types[column] != type) {
+      binders[column] = ValueBinderFactory.getInstance().getDefaultBinder(type);
+      types[column] = type;
+    }
+    return binders[column];
+  }
+
+}
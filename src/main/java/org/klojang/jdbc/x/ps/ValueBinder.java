@@ -50,6 +50,8 @@ public final class ValueBinder<INPUT_TYPE, PARAM_TYPE> {
 
   boolean isAdaptive() { return adapter != null; }
 
+  PreparedStatementMethod<PARAM_TYPE> getSetter() { return setter; }
+
   @SuppressWarnings("unchecked")
   PARAM_TYPE getParamValue(INPUT_TYPE beanValue) {
     return adapter == null ? (PARAM_TYPE) beanValue : adapter.adapt(beanValue,
@@ -0,0 +1,17 @@
+package org.klojang.jdbc.x.rs;
+
+import java.sql.ResultSet;
+
+/**
+ * Populates a JavaBean with the values in the current row of a {@code ResultSet}.
+ * Instances are obtained via {@link BeanWriterFactory#getBeanWriter(ResultSet, Class,
+ * org.klojang.jdbc.SessionConfig) BeanWriterFactory.getBeanWriter()}.
+ *
+ * @see BeanWriterFactory
+ */
+@FunctionalInterface
+public interface BeanWriter {
+
+  void write(ResultSet rs, Object bean) throws Throwable;
+
+}
@@ -0,0 +1,112 @@
+package org.klojang.jdbc.x.rs;
+
+import org.klojang.jdbc.BeanMapper;
+import org.klojang.jdbc.SessionConfig;
+import org.klojang.jdbc.x.BeanMapperCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.sql.ResultSet;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Produces {@link BeanWriter} instances. Where possible, the {@code BeanWriter} is a
+ * hidden class that holds the entire row-to-bean mapping as a single, constant
+ * {@code MethodHandle}, composed of direct calls to {@code ResultSet.getXXX()} and the
+ * setters of the bean. When the mapping cannot be composed this way (for example because
+ * the setters are not publicly accessible), or when trace logging is enabled for
+ * {@link PropertyWriter}, the returned {@code BeanWriter} simply loops over the
+ * {@code PropertyWriter} instances for the bean class. If the bean class has a
+ * {@link BeanMapper} generated at compile time, and the mapper can reach properties that
+ * the {@code PropertyWriter} instances cannot (because their setters are not public), the
+ * returned {@code BeanWriter} uses the mapper instead. The mapper is not used otherwise,
+ * because it passes every value as an {@code Object}, boxing primitive values.
+ */
+public final class BeanWriterFactory {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BeanWriterFactory.class);
+
+  private static final byte[] TEMPLATE = loadTemplate("BeanWriterTemplate.class");
+
+  private BeanWriterFactory() { throw new UnsupportedOperationException(); }
+
+  @SuppressWarnings("rawtypes")
+  public static BeanWriter getBeanWriter(ResultSet rs,
+        Class<?> beanClass,
+        SessionConfig config) {
+    BeanMapper<?> mapper = BeanMapperCache.get(beanClass);
+    PropertyWriter[] writers;
+    if (mapper == null) {
+      writers = PropertyWriter.createWriters(rs, beanClass, config);
+    } else {
+      MappedColumns columns = MappedColumns.create(rs, mapper, config);
+      writers = createWriters(rs, beanClass, config);
+      if (writers == null || writers.length < columns.properties().length) {
+        return columns.toBeanWriter(mapper);
+      }
+    }
+    if (TEMPLATE != null && !PropertyWriter.isTracing()) {
+      try {
+        return compile(beanClass, writers);
+      } catch (Throwable t) {
+        LOG.debug("Cannot generate BeanWriter for {}: {}", beanClass.getName(), t.toString());
+      }
+    }
+    return (rs0, bean) -> {
+      for (PropertyWriter writer : writers) {
+        writer.write(rs0, bean);
+      }
+    };
+  }
+
+  // Returns null if the writers cannot be created, so we can fall back on the mapper
+  @SuppressWarnings("rawtypes")
+  private static PropertyWriter[] createWriters(ResultSet rs,
+        Class<?> beanClass,
+        SessionConfig config) {
+    try {
+      return PropertyWriter.createWriters(rs, beanClass, config);
+    } catch (RuntimeException e) {
+      LOG.debug("Using generated mapper for {}: {}", beanClass.getName(), e.toString());
+      return null;
+    }
+  }
+
+  @SuppressWarnings("rawtypes")
+  private static BeanWriter compile(Class<?> beanClass, PropertyWriter[] writers)
+        throws Throwable {
+    MethodHandle mh = MethodHandles.empty(methodType(void.class,
+          ResultSet.class,
+          Object.class));
+    for (int i = writers.length - 1; i >= 0; --i) {
+      mh = MethodHandles.foldArguments(mh, writers[i].handle(beanClass));
+    }
+    Lookup lookup = MethodHandles.lookup().defineHiddenClassWithClassData(TEMPLATE,
+          mh,
+          true);
+    MethodHandle constructor = lookup.findConstructor(lookup.lookupClass(),
+          methodType(void.class));
+    return (BeanWriter) constructor.invoke();
+  }
+
+  // Also used by RecordFactory
+  static byte[] loadTemplate(String resource) {
+    try (InputStream in = BeanWriterFactory.class.getResourceAsStream(resource)) {
+      if (in == null) {
+        LOG.warn("Resource {} not found. Hidden-class generation disabled", resource);
+        return null;
+      }
+      return in.readAllBytes();
+    } catch (IOException e) {
+      LOG.warn("Error reading {}: {}", resource, e.toString());
+      return null;
+    }
+  }
+
+}
@@ -0,0 +1,36 @@
+package org.klojang.jdbc.x.rs;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.sql.ResultSet;
+
+import static java.lang.constant.ConstantDescs.DEFAULT_NAME;
+
+/*
+ * Never loaded as an ordinary class. Its bytecode is used as the template for the hidden
+ * classes defined by BeanWriterFactory. Each hidden class receives its own MethodHandle
+ * as class data, which ends up in a static final field, allowing the JIT compiler to
+ * treat it as a constant and inline the entire row-to-bean mapping.
+ */
+final class BeanWriterTemplate implements BeanWriter {
+
+  private static final MethodHandle WRITER;
+
+  static {
+    try {
+      WRITER = MethodHandles.classData(MethodHandles.lookup(),
+            DEFAULT_NAME,
+            MethodHandle.class);
+    } catch (IllegalAccessException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private BeanWriterTemplate() { }
+
+  @Override
+  public void write(ResultSet rs, Object bean) throws Throwable {
+    WRITER.invokeExact(rs, bean);
+  }
+
+}
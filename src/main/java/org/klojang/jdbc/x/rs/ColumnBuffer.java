@@ -0,0 +1,244 @@
+package org.klojang.jdbc.x.rs;
+
+import org.klojang.jdbc.CustomReader;
+import org.klojang.jdbc.DatabaseException;
+import org.klojang.jdbc.SessionConfig;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Map;
+
+/**
+ * Accumulates the values of a single column in a ResultSet into an array. Columns whose
+ * SQL type maps to a primitive type are accumulated into a primitive array ({@code int[]},
+ * {@code long[]}, {@code double[]} or {@code boolean[]}), with the positions of NULL
+ * values recorded in a {@code BitSet}. SMALLINT and TINYINT columns are widened to
+ * {@code int}; REAL columns are widened to {@code double}. All other columns, and columns
+ * for which the {@code SessionConfig} provides a {@link CustomReader}, are accumulated
+ * into an {@code Object[]} array, using the same ResultSet.getXXX() method or
+ * {@code CustomReader} that would have been used by a MapExtractor.
+ */
+public abstract sealed class ColumnBuffer {
+
+  /**
+   * Creates a {@code ColumnBuffer} for each column in the ResultSet.
+   *
+   * @param rs the ResultSet
+   * @param keys the (mapped) column names, used to look up custom readers
+   * @param config the {@code SessionConfig}
+   * @param capacity the initial capacity of the buffers
+   * @return a {@code ColumnBuffer} for each column in the ResultSet
+   */
+  public static ColumnBuffer[] createBuffers(ResultSet rs,
+        String[] keys,
+        SessionConfig config,
+        int capacity) {
+    ResultSetMethodLookup methods = ResultSetMethodLookup.getInstance();
+    try {
+      ResultSetMetaData rsmd = rs.getMetaData();
+      ColumnBuffer[] buffers = new ColumnBuffer[rsmd.getColumnCount()];
+      for (int idx = 0; idx < buffers.length; ++idx) {
+        int sqlType = rsmd.getColumnType(idx + 1);
+        // Same lookup as in KeyWriter
+        CustomReader reader = config.getCustomReader(Map.class,
+              keys[idx],
+              Object.class,
+              sqlType);
+        if (reader != null) {
+          buffers[idx] = new ObjectBuffer(idx + 1, capacity, reader);
+          continue;
+        }
+        ResultSetMethod<?> method = methods.getMethod(sqlType);
+        Class<?> type = method.primitiveType();
+        if (type == int.class || type == short.class || type == byte.class) {
+          buffers[idx] = new IntBuffer(idx + 1, capacity);
+        } else if (type == long.class) {
+          buffers[idx] = new LongBuffer(idx + 1, capacity);
+        } else if (type == double.class || type == float.class) {
+          buffers[idx] = new DoubleBuffer(idx + 1, capacity);
+        } else if (type == boolean.class) {
+          buffers[idx] = new BooleanBuffer(idx + 1, capacity);
+        } else {
+          buffers[idx] = new ObjectBuffer(idx + 1, capacity, method::invoke);
+        }
+      }
+      return buffers;
+    } catch (SQLException e) {
+      throw new DatabaseException(e);
+    }
+  }
+
+  final int columnIndex;
+  final BitSet nulls = new BitSet();
+
+  int size;
+
+  private ColumnBuffer(int columnIndex) {
+    this.columnIndex = columnIndex;
+  }
+
+  /**
+   * Appends the value of the column in the current row of the ResultSet.
+   *
+   * @param rs the ResultSet
+   * @throws SQLException if a database error occurs
+   */
+  public abstract void add(ResultSet rs) throws SQLException;
+
+  /**
+   * Returns an array containing all values accumulated so far. The array is trimmed to
+   * the number of values and is no longer used by this buffer.
+   *
+   * @return an array containing all values accumulated so far
+   */
+  public abstract Object toArray();
+
+  /**
+   * Returns a {@code BitSet} in which the bits corresponding to NULL values are set.
+   *
+   * @return a {@code BitSet} in which the bits corresponding to NULL values are set
+   */
+  public BitSet nulls() {
+    return nulls;
+  }
+
+  static int grow(int capacity) {
+    return Math.max(10, capacity + (capacity >> 1));
+  }
+
+  private static final class IntBuffer extends ColumnBuffer {
+    private int[] values;
+
+    IntBuffer(int columnIndex, int capacity) {
+      super(columnIndex);
+      values = new int[capacity];
+    }
+
+    @Override
+    public void add(ResultSet rs) throws SQLException {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, grow(size));
+      }
+      values[size] = rs.getInt(columnIndex);
+      if (rs.wasNull()) {
+        nulls.set(size);
+      }
+      ++size;
+    }
+
+    @Override
+    public Object toArray() {
+      return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+  }
+
+  private static final class LongBuffer extends ColumnBuffer {
+    private long[] values;
+
+    LongBuffer(int columnIndex, int capacity) {
+      super(columnIndex);
+      values = new long[capacity];
+    }
+
+    @Override
+    public void add(ResultSet rs) throws SQLException {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, grow(size));
+      }
+      values[size] = rs.getLong(columnIndex);
+      if (rs.wasNull()) {
+        nulls.set(size);
+      }
+      ++size;
+    }
+
+    @Override
+    public Object toArray() {
+      return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+  }
+
+  private static final class DoubleBuffer extends ColumnBuffer {
+    private double[] values;
+
+    DoubleBuffer(int columnIndex, int capacity) {
+      super(columnIndex);
+      values = new double[capacity];
+    }
+
+    @Override
+    public void add(ResultSet rs) throws SQLException {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, grow(size));
+      }
+      values[size] = rs.getDouble(columnIndex);
+      if (rs.wasNull()) {
+        nulls.set(size);
+      }
+      ++size;
+    }
+
+    @Override
+    public Object toArray() {
+      return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+  }
+
+  private static final class BooleanBuffer extends ColumnBuffer {
+    private boolean[] values;
+
+    BooleanBuffer(int columnIndex, int capacity) {
+      super(columnIndex);
+      values = new boolean[capacity];
+    }
+
+    @Override
+    public void add(ResultSet rs) throws SQLException {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, grow(size));
+      }
+      values[size] = rs.getBoolean(columnIndex);
+      if (rs.wasNull()) {
+        nulls.set(size);
+      }
+      ++size;
+    }
+
+    @Override
+    public Object toArray() {
+      return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+  }
+
+  private static final class ObjectBuffer extends ColumnBuffer {
+    // Either a CustomReader or a ResultSet.getXXX() method
+    private final CustomReader reader;
+    private Object[] values;
+
+    ObjectBuffer(int columnIndex, int capacity, CustomReader reader) {
+      super(columnIndex);
+      this.reader = reader;
+      values = new Object[capacity];
+    }
+
+    @Override
+    public void add(ResultSet rs) throws SQLException {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, grow(size));
+      }
+      if ((values[size] = reader.getValue(rs, columnIndex)) == null) {
+        nulls.set(size);
+      }
+      ++size;
+    }
+
+    @Override
+    public Object toArray() {
+      return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+  }
+
+}
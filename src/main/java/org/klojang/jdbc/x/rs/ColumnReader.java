@@ -1,9 +1,13 @@
 package org.klojang.jdbc.x.rs;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.function.Function;
 
+import static java.lang.invoke.MethodType.methodType;
+
 /**
  * A ColumnReader is responsible for extracting a single value from a ResultSet. Since the
  * value will be destined for a bean property, it needs to be assignment-compatible with
@@ -38,6 +42,34 @@ public final class ColumnReader<COLUMN_TYPE, TARGET_TYPE> {
     this.adapter = adapter;
   }
 
+  /*
+   * Returns a MethodHandle of type (ResultSet)toType that reads the specified column. If
+   * no adapter is involved, the MethodHandle directly invokes the ResultSet.getXXX()
+   * method, so primitive values will not get boxed along the way.
+   */
+  MethodHandle handle(int columnIndex, Class<?> toType)
+        throws ReflectiveOperationException {
+    MethodHandle mh;
+    if (adapter == null) {
+      mh = MethodHandles.insertArguments(method.handle(), 1, columnIndex);
+    } else {
+      mh = MethodHandles.lookup().findVirtual(ColumnReader.class,
+            "getValue",
+            methodType(Object.class, ResultSet.class, int.class, Class.class));
+      mh = MethodHandles.insertArguments(mh.bindTo(this), 1, columnIndex, toType);
+    }
+    return mh.asType(methodType(toType, ResultSet.class));
+  }
+
+  /*
+   * Returns a PrimitiveWriter that feeds the value returned by the ResultSet.getXXX()
+   * method straight into the specified setter, or null if this ColumnReader uses an
+   * adapter or the setter does not take the primitive type returned by the method.
+   */
+  PrimitiveWriter primitiveWriter(MethodHandle setter) {
+    return adapter == null ? PrimitiveWriter.create(method, setter) : null;
+  }
+
   @SuppressWarnings("unchecked")
   public TARGET_TYPE getValue(ResultSet rs, int columnIndex, Class<TARGET_TYPE> toType)
         throws SQLException {
@@ -3,10 +3,14 @@ package org.klojang.jdbc.x.rs;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.sql.ResultSet;
 
 import org.klojang.jdbc.CustomReader;
 
+import static java.lang.invoke.MethodType.methodType;
+
 /**
  * Reads a single column in a ResultSet as the value for a record component.
  *
@@ -55,4 +59,23 @@ public final class ComponentWriter<COLUMN_TYPE, COMPONENT_TYPE> {
     }
     return val;
   }
+
+  static boolean isTracing() {
+    return LOG.isTraceEnabled();
+  }
+
+  /*
+   * Returns a MethodHandle of type (ResultSet)<component type> that does what
+   * readValue() does. Used by RecordFactory to compose the hidden-class RecordCreator.
+   */
+  MethodHandle handle(Class<?> type) throws ReflectiveOperationException {
+    if (custom == null) {
+      return reader.handle(columnIndex, type);
+    }
+    MethodHandle mh = MethodHandles.lookup().findVirtual(CustomReader.class,
+          "getValue",
+          methodType(Object.class, ResultSet.class, int.class));
+    return MethodHandles.insertArguments(mh.bindTo(custom), 1, columnIndex)
+          .asType(methodType(type, ResultSet.class));
+  }
 }
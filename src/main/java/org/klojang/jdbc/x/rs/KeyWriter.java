@@ -10,7 +10,9 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
 
 /**
@@ -25,12 +27,16 @@ public final class KeyWriter<COLUMN_TYPE> {
 
   public static Map<String, Object> toMap(ResultSet resultset, KeyWriter[] writers)
         throws Throwable {
-    // Allow for some extra data to be inserted by the user
-    Map<String, Object> map = HashMap.newHashMap(writers.length + 4);
+    if (writers.length == 0) {
+      return new HashMap<>();
+    }
+    // All writers share the same Keys object. The returned map still allows for some
+    // extra data to be inserted by the user.
+    Object[] values = new Object[writers[0].keys.size()];
     for (KeyWriter writer : writers) {
-      map.put(writer.key, writer.read(resultset));
+      values[writer.slot] = writer.read(resultset);
     }
-    return map;
+    return new RowMap(writers[0].keys, values);
   }
 
   public static KeyWriter[] createWriters(ResultSet resultset, SessionConfig config) {
@@ -38,18 +44,25 @@ public final class KeyWriter<COLUMN_TYPE> {
     try {
       ResultSetMetaData rsmd = resultset.getMetaData();
       int sz = rsmd.getColumnCount();
+      String[] labels = new String[sz];
+      Set<String> unique = LinkedHashSet.newLinkedHashSet(sz);
+      for (int idx = 0; idx < sz; ++idx) {
+        String label = rsmd.getColumnLabel(idx + 1);
+        labels[idx] = config.getColumnToPropertyMapper().map(label);
+        unique.add(labels[idx]);
+      }
+      RowMap.Keys keys = new RowMap.Keys(unique.toArray(String[]::new));
       KeyWriter[] writers = new KeyWriter[sz];
       for (int idx = 0; idx < sz; ++idx) {
         int columnIndex = idx + 1; // JDBC is one-based
         int sqlType = rsmd.getColumnType(columnIndex);
-        String label = rsmd.getColumnLabel(columnIndex);
-        String key = config.getColumnToPropertyMapper().map(label);
+        String key = labels[idx];
         var customReader = config.getCustomReader(Map.class, key, Object.class, sqlType);
         if (customReader == null) {
           ResultSetMethod<?> method = methods.getMethod(sqlType);
-          writers[idx] = new KeyWriter<>(method, columnIndex, key);
+          writers[idx] = new KeyWriter<>(method, columnIndex, key, keys);
         } else {
-          writers[idx] = new KeyWriter<>(customReader, columnIndex, key);
+          writers[idx] = new KeyWriter<>(customReader, columnIndex, key, keys);
         }
       }
       return writers;
@@ -62,18 +75,30 @@ public final class KeyWriter<COLUMN_TYPE> {
   private final CustomReader customReader;
   private final int columnIndex;
   private final String key;
+  private final RowMap.Keys keys;
+  private final int slot;
 
-  private KeyWriter(ResultSetMethod<COLUMN_TYPE> method, int columnIndex, String key) {
+  private KeyWriter(ResultSetMethod<COLUMN_TYPE> method,
+        int columnIndex,
+        String key,
+        RowMap.Keys keys) {
     this.method = method;
     this.columnIndex = columnIndex;
     this.key = key;
+    this.keys = keys;
+    this.slot = keys.slot(key);
     this.customReader = null;
   }
 
-  private KeyWriter(CustomReader customReader, int columnIndex, String key) {
+  private KeyWriter(CustomReader customReader,
+        int columnIndex,
+        String key,
+        RowMap.Keys keys) {
     this.customReader = customReader;
     this.columnIndex = columnIndex;
     this.key = key;
+    this.keys = keys;
+    this.slot = keys.slot(key);
     this.method = null;
   }
 
@@ -0,0 +1,85 @@
+package org.klojang.jdbc.x.rs;
+
+import org.klojang.jdbc.BeanMapper;
+import org.klojang.jdbc.CustomReader;
+import org.klojang.jdbc.DatabaseException;
+import org.klojang.jdbc.SessionConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps the columns of a {@code ResultSet} to the writable properties of a generated
+ * {@link BeanMapper}. Used instead of {@code SetterFactory} and record reflection when
+ * the JavaBean or record type has a generated mapper.
+ *
+ * @param properties for each mapped column, the index of the property in the mapper
+ * @param writers for each mapped column, the object that reads the column value
+ */
+@SuppressWarnings("rawtypes")
+record MappedColumns(int[] properties, ComponentWriter[] writers) {
+
+  private static final Logger LOG = LoggerFactory.getLogger(MappedColumns.class);
+
+  @SuppressWarnings("unchecked")
+  static MappedColumns create(ResultSet rs, BeanMapper<?> mapper, SessionConfig config) {
+    Class<?> beanClass = mapper.getBeanClass();
+    ColumnReaderFactory factory = ColumnReaderFactory.getInstance();
+    try {
+      ResultSetMetaData rsmd = rs.getMetaData();
+      int sz = rsmd.getColumnCount();
+      List<Integer> properties = new ArrayList<>(sz);
+      List<ComponentWriter> writers = new ArrayList<>(sz);
+      for (int idx = 0; idx < sz; ++idx) {
+        int columnIndex = idx + 1; // JDBC is one-based
+        int sqlType = rsmd.getColumnType(columnIndex);
+        String label = rsmd.getColumnLabel(columnIndex);
+        String property = config.getColumnToPropertyMapper().map(label);
+        int index = mapper.getWritableIndex(property);
+        if (index == -1) {
+          if (LOG.isTraceEnabled()) {
+            String fmt = "Column {} cannot be mapped to a property of {}";
+            LOG.trace(fmt, label, beanClass.getSimpleName());
+          }
+          continue;
+        }
+        Class type = mapper.getWritableType(index);
+        CustomReader custom = config.getCustomReader(beanClass, property, type, sqlType);
+        if (custom == null) {
+          ColumnReader reader = factory.getReader(type, sqlType);
+          writers.add(new ComponentWriter(reader, property, columnIndex, type));
+        } else {
+          writers.add(new ComponentWriter(custom, property, columnIndex));
+        }
+        properties.add(index);
+      }
+      return new MappedColumns(properties.stream().mapToInt(Integer::intValue).toArray(),
+            writers.toArray(ComponentWriter[]::new));
+    } catch (SQLException e) {
+      throw new DatabaseException(e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  BeanWriter toBeanWriter(BeanMapper mapper) {
+    return (rs, bean) -> {
+      for (int i = 0; i < writers.length; ++i) {
+        mapper.set(bean, properties[i], writers[i].readValue(rs));
+      }
+    };
+  }
+
+  Object[] readRecordValues(ResultSet rs, int componentCount) throws Throwable {
+    Object[] values = new Object[componentCount];
+    for (int i = 0; i < writers.length; ++i) {
+      values[properties[i]] = writers[i].readValue(rs);
+    }
+    return values;
+  }
+
+}
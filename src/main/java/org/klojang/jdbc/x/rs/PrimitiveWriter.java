@@ -0,0 +1,84 @@
+package org.klojang.jdbc.x.rs;
+
+import java.lang.invoke.MethodHandle;
+import java.sql.ResultSet;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/*
+ * Copies a column value to a bean property when both the ResultSet.getXXX() method and
+ * the setter of the property deal in the same primitive type. The setter is invoked
+ * through an exactly-typed MethodHandle, so the value is never boxed on its way from the
+ * ResultSet to the bean.
+ */
+abstract sealed class PrimitiveWriter {
+
+  /*
+   * Returns a PrimitiveWriter for the specified ResultSet method and setter, or null if
+   * the ResultSet method and the setter do not deal in the same primitive type. The
+   * setter must be a MethodHandle of type (<bean class>, <primitive type>)void.
+   */
+  static PrimitiveWriter create(ResultSetMethod<?> method, MethodHandle setter) {
+    Class<?> type = setter.type().parameterType(1);
+    if (type != method.primitiveType()) {
+      return null;
+    }
+    setter = setter.asType(methodType(void.class, Object.class, type));
+    if (type == int.class) {
+      return new IntWriter(setter);
+    } else if (type == long.class) {
+      return new LongWriter(setter);
+    } else if (type == double.class) {
+      return new DoubleWriter(setter);
+    } else if (type == boolean.class) {
+      return new BooleanWriter(setter);
+    } else if (type == float.class) {
+      return new FloatWriter(setter);
+    } else if (type == short.class) {
+      return new ShortWriter(setter);
+    } else if (type == byte.class) {
+      return new ByteWriter(setter);
+    }
+    return null;
+  }
+
+  final MethodHandle setter;
+
+  private PrimitiveWriter(MethodHandle setter) {
+    this.setter = setter;
+  }
+
+  abstract void write(ResultSet rs, int columnIndex, Object bean) throws Throwable;
+
+  //@formatter:off
+  private static final class IntWriter extends PrimitiveWriter {
+    IntWriter(MethodHandle setter) { super(setter); }
+    void write(ResultSet rs, int idx, Object bean) throws Throwable { setter.invokeExact(bean, rs.getInt(idx)); }
+  }
+  private static final class LongWriter extends PrimitiveWriter {
+    LongWriter(MethodHandle setter) { super(setter); }
+    void write(ResultSet rs, int idx, Object bean) throws Throwable { setter.invokeExact(bean, rs.getLong(idx)); }
+  }
+  private static final class DoubleWriter extends PrimitiveWriter {
+    DoubleWriter(MethodHandle setter) { super(setter); }
+    void write(ResultSet rs, int idx, Object bean) throws Throwable { setter.invokeExact(bean, rs.getDouble(idx)); }
+  }
+  private static final class BooleanWriter extends PrimitiveWriter {
+    BooleanWriter(MethodHandle setter) { super(setter); }
+    void write(ResultSet rs, int idx, Object bean) throws Throwable { setter.invokeExact(bean, rs.getBoolean(idx)); }
+  }
+  private static final class FloatWriter extends PrimitiveWriter {
+    FloatWriter(MethodHandle setter) { super(setter); }
+    void write(ResultSet rs, int idx, Object bean) throws Throwable { setter.invokeExact(bean, rs.getFloat(idx)); }
+  }
+  private static final class ShortWriter extends PrimitiveWriter {
+    ShortWriter(MethodHandle setter) { super(setter); }
+    void write(ResultSet rs, int idx, Object bean) throws Throwable { setter.invokeExact(bean, rs.getShort(idx)); }
+  }
+  private static final class ByteWriter extends PrimitiveWriter {
+    ByteWriter(MethodHandle setter) { super(setter); }
+    void write(ResultSet rs, int idx, Object bean) throws Throwable { setter.invokeExact(bean, rs.getByte(idx)); }
+  }
+  //@formatter:on
+
+}
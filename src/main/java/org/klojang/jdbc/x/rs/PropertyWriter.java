@@ -8,6 +8,10 @@ import org.klojang.jdbc.x.JDBC;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -15,6 +19,8 @@ import java.util.*;
 import java.util.function.Supplier;
 
 import org.klojang.jdbc.CustomReader;
+
+import static java.lang.invoke.MethodType.methodType;
 import static org.klojang.util.CollectionMethods.implode;
 
 /**
@@ -74,6 +80,9 @@ public final class PropertyWriter<COLUMN_TYPE, FIELD_TYPE> {
         if (customReader == null) {
           ColumnReader<?, ?> columnReader = factory.getReader(javaType, sqlType);
           pw = new PropertyWriter<>(setter, columnIndex, columnReader);
+          if (javaType.isPrimitive() && !LOG.isTraceEnabled()) {
+            pw.primitive = primitiveWriter(beanClass, setter, columnReader);
+          }
         } else {
           pw = new PropertyWriter(setter, columnIndex, customReader);
         }
@@ -89,6 +98,8 @@ public final class PropertyWriter<COLUMN_TYPE, FIELD_TYPE> {
   private final int columnIndex;
   private final ColumnReader<COLUMN_TYPE, FIELD_TYPE> reader;
   private final CustomReader custom;
+  // Set if the column can be copied to the property without boxing
+  private PrimitiveWriter primitive;
 
   private PropertyWriter(Setter setter,
         int columnIndex,
@@ -108,6 +119,10 @@ public final class PropertyWriter<COLUMN_TYPE, FIELD_TYPE> {
 
   @SuppressWarnings({"unchecked", "rawtypes"})
   public void write(ResultSet resultset, Object bean) throws Throwable {
+    if (primitive != null) {
+      primitive.write(resultset, columnIndex, bean);
+      return;
+    }
     final Object val;
     if (custom == null) {
       Class cls = setter.getParamType();
@@ -124,6 +139,69 @@ public final class PropertyWriter<COLUMN_TYPE, FIELD_TYPE> {
     setter.write(bean, val);
   }
 
+  /*
+   * Returns a MethodHandle of type (ResultSet, Object)void that does what write() does,
+   * but without boxing primitive values if the ColumnReader does not need an adapter.
+   * Used by BeanWriterFactory to compose the hidden-class BeanWriter.
+   */
+  MethodHandle handle(Class<?> beanClass) throws ReflectiveOperationException {
+    Class<?> type = setter.getParamType();
+    MethodHandle write = setterHandle(beanClass, setter)
+          .asType(methodType(void.class, Object.class, type));
+    MethodHandle read;
+    if (custom == null) {
+      read = reader.handle(columnIndex, type);
+    } else {
+      read = MethodHandles.lookup().findVirtual(CustomReader.class,
+            "getValue",
+            methodType(Object.class, ResultSet.class, int.class));
+      read = MethodHandles.insertArguments(read.bindTo(custom), 1, columnIndex)
+            .asType(methodType(type, ResultSet.class));
+    }
+    MethodHandle mh = MethodHandles.filterArguments(write, 1, read);
+    return MethodHandles.permuteArguments(mh,
+          methodType(void.class, ResultSet.class, Object.class),
+          1,
+          0);
+  }
+
+  @SuppressWarnings("rawtypes")
+  private static PrimitiveWriter primitiveWriter(Class<?> beanClass,
+        Setter setter,
+        ColumnReader reader) {
+    try {
+      return reader.primitiveWriter(setterHandle(beanClass, setter));
+    } catch (ReflectiveOperationException e) {
+      LOG.debug("Cannot bypass boxing for {}.{}: {}",
+            beanClass.getSimpleName(),
+            setter.getProperty(),
+            e.toString());
+      return null;
+    }
+  }
+
+  // Returns a MethodHandle of type (<bean class>, <property type>)void
+  private static MethodHandle setterHandle(Class<?> beanClass, Setter setter)
+        throws ReflectiveOperationException {
+    String name = "set"
+          + Character.toUpperCase(setter.getProperty().charAt(0))
+          + setter.getProperty().substring(1);
+    Method method = beanClass.getMethod(name, setter.getParamType());
+    if (Modifier.isStatic(method.getModifiers())) {
+      throw new NoSuchMethodException(name);
+    }
+    return MethodHandles.publicLookup().unreflect(method);
+  }
+
+  static boolean isTracing() {
+    return LOG.isTraceEnabled();
+  }
+
+  // For testing
+  boolean isUnboxed() {
+    return primitive != null;
+  }
+
   private static void log(
         Class<?> beanClass,
         ResultSet resultset,
@@ -0,0 +1,16 @@
+package org.klojang.jdbc.x.rs;
+
+import java.sql.ResultSet;
+
+/**
+ * Creates a record from the values in the current row of a {@code ResultSet}. Instances
+ * are hidden classes created by {@link RecordFactory}.
+ *
+ * @see RecordFactory
+ */
+@FunctionalInterface
+public interface RecordCreator {
+
+  Object create(ResultSet rs) throws Throwable;
+
+}
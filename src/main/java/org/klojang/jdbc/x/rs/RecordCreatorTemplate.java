@@ -0,0 +1,36 @@
+package org.klojang.jdbc.x.rs;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.sql.ResultSet;
+
+import static java.lang.constant.ConstantDescs.DEFAULT_NAME;
+
+/*
+ * Never loaded as an ordinary class. Its bytecode is used as the template for the hidden
+ * classes defined by RecordFactory. Like BeanWriterTemplate, except that the
+ * MethodHandle reads all columns and passes them straight to the canonical constructor
+ * of the record.
+ */
+final class RecordCreatorTemplate implements RecordCreator {
+
+  private static final MethodHandle CREATOR;
+
+  static {
+    try {
+      CREATOR = MethodHandles.classData(MethodHandles.lookup(),
+            DEFAULT_NAME,
+            MethodHandle.class);
+    } catch (IllegalAccessException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private RecordCreatorTemplate() { }
+
+  @Override
+  public Object create(ResultSet rs) throws Throwable {
+    return (Object) CREATOR.invokeExact(rs);
+  }
+
+}
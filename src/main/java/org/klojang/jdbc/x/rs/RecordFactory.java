@@ -1,13 +1,17 @@
 package org.klojang.jdbc.x.rs;
 
+import org.klojang.jdbc.BeanMapper;
 import org.klojang.jdbc.DatabaseException;
 import org.klojang.jdbc.SessionConfig;
+import org.klojang.jdbc.x.BeanMapperCache;
 import org.klojang.jdbc.x.JDBC;
 import org.klojang.util.CollectionMethods;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.reflect.RecordComponent;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -23,26 +27,109 @@ import static org.klojang.util.CollectionMethods.implode;
 @SuppressWarnings({"rawtypes", "unchecked"})
 public final class RecordFactory<T extends Record> {
 
-  private record WriteConfig(MethodHandle constructor, ComponentWriter[] writers) { }
+  private record WriteConfig(MethodHandle constructor,
+        Class<?>[] paramTypes,
+        ComponentWriter[] writers) { }
 
   private static final Logger LOG = LoggerFactory.getLogger(RecordFactory.class);
 
-  private final MethodHandle constructor;
+  private static final byte[] TEMPLATE =
+        BeanWriterFactory.loadTemplate("RecordCreatorTemplate.class");
+
+  // The canonical constructor, adapted to type (Object[])Object
+  private final MethodHandle spreader;
   private final ComponentWriter[] writers;
+  // A hidden class that reads the columns and calls the constructor without any
+  // intermediate argument array. Null if it could not be generated or if trace
+  // logging is enabled for ComponentWriter.
+  private final RecordCreator creator;
+  // Set if the canonical constructor is not accessible to us, but the record type has a
+  // BeanMapper generated at compile time. The mapper is not used otherwise, because it
+  // passes every value as an Object, boxing primitive values.
+  private final BeanMapper<T> mapper;
+  private final MappedColumns columns;
 
   public RecordFactory(Class<T> recordClass, ResultSet resultset, SessionConfig config) {
-    WriteConfig cfg = createWriters(recordClass, resultset, config);
-    constructor = cfg.constructor();
-    writers = cfg.writers();
+    BeanMapper<T> mapper = BeanMapperCache.get(recordClass);
+    WriteConfig cfg;
+    try {
+      cfg = createWriters(recordClass, resultset, config);
+    } catch (DatabaseException e) {
+      if (mapper == null) {
+        throw e;
+      }
+      LOG.debug("Using generated mapper for {}: {}", recordClass.getName(), e.toString());
+      cfg = null;
+    }
+    if (cfg == null) {
+      this.mapper = mapper;
+      columns = MappedColumns.create(resultset, mapper, config);
+      spreader = null;
+      writers = null;
+      creator = null;
+    } else {
+      this.mapper = null;
+      columns = null;
+      writers = cfg.writers();
+      spreader = cfg.constructor()
+            .asSpreader(Object[].class, writers.length)
+            .asType(methodType(Object.class, Object[].class));
+      creator = compile(recordClass, cfg);
+    }
   }
 
   @SuppressWarnings("unchecked")
   public T createRecord(ResultSet rs) throws Throwable {
+    if (creator != null) {
+      return (T) creator.create(rs);
+    }
+    if (mapper != null) {
+      return mapper.newRecord(columns.readRecordValues(rs, mapper.getWritableCount()));
+    }
     Object[] args = new Object[writers.length];
     for (int i = 0; i < writers.length; ++i) {
       args[i] = writers[i].readValue(rs);
     }
-    return (T) constructor.invokeWithArguments(args);
+    return (T) (Object) spreader.invokeExact(args);
+  }
+
+  /*
+   * Composes a MethodHandle of type (ResultSet)Object that reads each column with the
+   * appropriate ResultSet.getXXX() method and passes the values directly to the
+   * canonical constructor, and installs it in a hidden class, where it is a constant.
+   */
+  private static RecordCreator compile(Class<?> recordClass, WriteConfig cfg) {
+    if (TEMPLATE == null || LOG.isTraceEnabled() || ComponentWriter.isTracing()) {
+      return null;
+    }
+    try {
+      ComponentWriter[] writers = cfg.writers();
+      MethodHandle mh = cfg.constructor()
+            .asType(cfg.constructor().type().changeReturnType(Object.class));
+      if (writers.length == 0) {
+        mh = MethodHandles.dropArguments(mh, 0, ResultSet.class);
+      } else {
+        MethodHandle[] readers = new MethodHandle[writers.length];
+        for (int i = 0; i < writers.length; ++i) {
+          readers[i] = writers[i].handle(cfg.paramTypes()[i]);
+        }
+        mh = MethodHandles.filterArguments(mh, 0, readers);
+        mh = MethodHandles.permuteArguments(mh,
+              methodType(Object.class, ResultSet.class),
+              new int[writers.length]);
+      }
+      Lookup lookup = MethodHandles.lookup().defineHiddenClassWithClassData(TEMPLATE,
+            mh,
+            true);
+      MethodHandle constructor = lookup.findConstructor(lookup.lookupClass(),
+            methodType(void.class));
+      return (RecordCreator) constructor.invoke();
+    } catch (Throwable t) {
+      LOG.debug("Cannot generate RecordCreator for {}: {}",
+            recordClass.getName(),
+            t.toString());
+      return null;
+    }
   }
 
   private static <T extends Record> WriteConfig createWriters(
@@ -90,7 +177,9 @@ public final class RecordFactory<T extends Record> {
       MethodHandle mh = publicLookup().findConstructor(
             recordClass,
             methodType(void.class, paramTypes.toArray(Class[]::new)));
-      return new WriteConfig(mh, writers.toArray(ComponentWriter[]::new));
+      return new WriteConfig(mh,
+            paramTypes.toArray(Class[]::new),
+            writers.toArray(ComponentWriter[]::new));
     } catch (Throwable t) {
       throw new DatabaseException(t);
     }
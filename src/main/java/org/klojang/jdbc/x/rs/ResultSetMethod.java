@@ -1,10 +1,14 @@
 package org.klojang.jdbc.x.rs;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.math.BigDecimal;
 import java.sql.*;
 import java.util.HashMap;
 import java.util.Map;
 
+import static java.lang.invoke.MethodType.methodType;
+
 /*
  * Represents one of the get methods of ResultSet, like ResultSet.getString(columnIndex)
  */
@@ -90,4 +94,57 @@ public abstract sealed class ResultSetMethod<COLUMN_TYPE> {
 
   abstract COLUMN_TYPE invoke(ResultSet rs, int columnIndex) throws SQLException;
 
+  /*
+   * Returns a MethodHandle for the ResultSet method encapsulated by this instance. The
+   * MethodHandle has type (ResultSet, int)X, where X is the actual return type of the
+   * ResultSet method, so getInt() returns a primitive int.
+   */
+  final MethodHandle handle() throws ReflectiveOperationException {
+    return switch (this) {
+      case GetString x -> find("getString", String.class);
+      case GetInt x -> find("getInt", int.class);
+      case GetFloat x -> find("getFloat", float.class);
+      case GetDouble x -> find("getDouble", double.class);
+      case GetLong x -> find("getLong", long.class);
+      case GetShort x -> find("getShort", short.class);
+      case GetByte x -> find("getByte", byte.class);
+      case GetBoolean x -> find("getBoolean", boolean.class);
+      case GetDate x -> find("getDate", Date.class);
+      case GetTime x -> find("getTime", Time.class);
+      case GetTimestamp x -> find("getTimestamp", Timestamp.class);
+      case GetBD x -> find("getBigDecimal", BigDecimal.class);
+      case GetBytes x -> find("getBytes", byte[].class);
+      case GetObject<?> x -> {
+        MethodHandle mh = MethodHandles.publicLookup().findVirtual(ResultSet.class,
+              "getObject",
+              methodType(Object.class, int.class, Class.class));
+        yield MethodHandles.insertArguments(mh, 2, x.returnType);
+      }
+    };
+  }
+
+  /*
+   * Returns the primitive return type of the ResultSet method encapsulated by this
+   * instance, or null if the method does not return a primitive.
+   */
+  final Class<?> primitiveType() {
+    return switch (this) {
+      case GetInt x -> int.class;
+      case GetFloat x -> float.class;
+      case GetDouble x -> double.class;
+      case GetLong x -> long.class;
+      case GetShort x -> short.class;
+      case GetByte x -> byte.class;
+      case GetBoolean x -> boolean.class;
+      default -> null;
+    };
+  }
+
+  private static MethodHandle find(String method, Class<?> returnType)
+        throws ReflectiveOperationException {
+    return MethodHandles.publicLookup().findVirtual(ResultSet.class,
+          method,
+          methodType(returnType, int.class));
+  }
+
 }
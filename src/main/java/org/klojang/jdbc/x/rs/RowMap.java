@@ -0,0 +1,249 @@
+package org.klojang.jdbc.x.rs;
+
+import java.util.*;
+
+/**
+ * A {@code Map<String, Object>} representing a single row in a ResultSet. The keys of
+ * the map (derived from the column labels) are stored just once, in a {@link Keys}
+ * object shared by all rows produced by the same MapExtractor. The values are stored in
+ * a plain {@code Object[]} array. The map is nevertheless fully mutable. Values can be
+ * replaced, keys can be removed, and keys that do not correspond to a column can be added.
+ * The latter are stored in a separate {@code LinkedHashMap} that is only created when
+ * needed. Iteration order is column order, followed by the order in which the extra
+ * keys were added.
+ */
+public final class RowMap extends AbstractMap<String, Object> {
+
+  /**
+   * The keys shared by all rows of a ResultSet.
+   */
+  public static final class Keys {
+
+    private final String[] keys;
+    private final Map<String, Integer> slots;
+
+    Keys(String[] keys) {
+      this.keys = keys;
+      this.slots = HashMap.newHashMap(keys.length);
+      for (int i = 0; i < keys.length; ++i) {
+        slots.put(keys[i], i);
+      }
+    }
+
+    int size() {
+      return keys.length;
+    }
+
+    int slot(String key) {
+      return slots.get(key);
+    }
+
+    private Integer find(Object key) {
+      return slots.get(key);
+    }
+  }
+
+  // Marks a column key that has been removed from the map
+  private static final Object ABSENT = new Object();
+
+  private final Keys keys;
+  private final Object[] values;
+
+  private Map<String, Object> extra;
+  private int removed;
+
+  RowMap(Keys keys, Object[] values) {
+    this.keys = keys;
+    this.values = values;
+  }
+
+  @Override
+  public int size() {
+    return values.length - removed + (extra == null ? 0 : extra.size());
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    Integer slot = keys.find(key);
+    if (slot != null) {
+      return values[slot] != ABSENT;
+    }
+    return extra != null && extra.containsKey(key);
+  }
+
+  @Override
+  public Object get(Object key) {
+    Integer slot = keys.find(key);
+    if (slot != null) {
+      Object val = values[slot];
+      return val == ABSENT ? null : val;
+    }
+    return extra == null ? null : extra.get(key);
+  }
+
+  @Override
+  public Object put(String key, Object value) {
+    Integer slot = keys.find(key);
+    if (slot != null) {
+      Object old = values[slot];
+      values[slot] = value;
+      if (old == ABSENT) {
+        --removed;
+        return null;
+      }
+      return old;
+    }
+    if (extra == null) {
+      extra = new LinkedHashMap<>();
+    }
+    return extra.put(key, value);
+  }
+
+  @Override
+  public Object remove(Object key) {
+    Integer slot = keys.find(key);
+    if (slot != null) {
+      Object old = values[slot];
+      if (old == ABSENT) {
+        return null;
+      }
+      values[slot] = ABSENT;
+      ++removed;
+      return old;
+    }
+    return extra == null ? null : extra.remove(key);
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(values, ABSENT);
+    removed = values.length;
+    extra = null;
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Entry<String, Object>> iterator() {
+        return new EntryIterator();
+      }
+
+      @Override
+      public int size() {
+        return RowMap.this.size();
+      }
+
+      @Override
+      public void clear() {
+        RowMap.this.clear();
+      }
+    };
+  }
+
+  private final class SlotEntry implements Entry<String, Object> {
+
+    private final int slot;
+
+    SlotEntry(int slot) {
+      this.slot = slot;
+    }
+
+    @Override
+    public String getKey() {
+      return keys.keys[slot];
+    }
+
+    @Override
+    public Object getValue() {
+      Object val = values[slot];
+      return val == ABSENT ? null : val;
+    }
+
+    @Override
+    public Object setValue(Object value) {
+      Object old = values[slot];
+      values[slot] = value;
+      if (old == ABSENT) {
+        --removed;
+        return null;
+      }
+      return old;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof Entry<?, ?> e
+            && getKey().equals(e.getKey())
+            && Objects.equals(getValue(), e.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return getKey().hashCode() ^ Objects.hashCode(getValue());
+    }
+
+    @Override
+    public String toString() {
+      return getKey() + "=" + getValue();
+    }
+  }
+
+  private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+    private int next = advance(0);
+    private int current = -1;
+    private Iterator<Entry<String, Object>> extraIterator;
+
+    @Override
+    public boolean hasNext() {
+      if (next < values.length) {
+        return true;
+      }
+      if (extraIterator == null) {
+        if (extra == null) {
+          return false;
+        }
+        extraIterator = extra.entrySet().iterator();
+      }
+      return extraIterator.hasNext();
+    }
+
+    @Override
+    public Entry<String, Object> next() {
+      if (next < values.length) {
+        current = next;
+        next = advance(next + 1);
+        return new SlotEntry(current);
+      }
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      current = -1;
+      return extraIterator.next();
+    }
+
+    @Override
+    public void remove() {
+      if (current != -1) {
+        if (values[current] == ABSENT) {
+          throw new IllegalStateException();
+        }
+        values[current] = ABSENT;
+        ++removed;
+      } else if (extraIterator != null) {
+        extraIterator.remove();
+      } else {
+        throw new IllegalStateException();
+      }
+    }
+
+    private int advance(int from) {
+      while (from < values.length && values[from] == ABSENT) {
+        ++from;
+      }
+      return from;
+    }
+  }
+
+}
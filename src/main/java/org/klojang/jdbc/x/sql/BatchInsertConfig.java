@@ -2,9 +2,13 @@ package org.klojang.jdbc.x.sql;
 
 import org.klojang.invoke.BeanReader;
 import org.klojang.jdbc.BeanValueProcessor;
+import org.klojang.jdbc.ChunkResult;
 import org.klojang.templates.NameMapper;
 
+import javax.sql.DataSource;
 import java.sql.Connection;
+import java.time.Duration;
+import java.util.function.Consumer;
 
 public record BatchInsertConfig<T>(
       Connection connection,
@@ -13,5 +17,12 @@ public record BatchInsertConfig<T>(
       NameMapper mapper,
       String tableName,
       int chunkSize,
-      boolean commitPerChunk
+      int maxStatementSize,
+      Duration targetChunkTime,
+      boolean commitPerChunk,
+      boolean parameterized,
+      DataSource dataSource,
+      int parallelism,
+      int pipelineDepth,
+      Consumer<ChunkResult> listener
 ) { }
@@ -19,7 +19,8 @@ import static org.klojang.util.CollectionMethods.collectionToList;
 
 /**
  * Extracts named parameters from a SQL query and replaces them with positional parameters
- * (question marks).
+ * (question marks). The annotation processor ({@code SQLParser}) contains a copy of this
+ * parsing logic. Changes made here must be made there as well.
  */
 public final class ParamExtractor {
 
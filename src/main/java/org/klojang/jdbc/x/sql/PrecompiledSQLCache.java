@@ -0,0 +1,75 @@
+package org.klojang.jdbc.x.sql;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the SQL files that were parsed at compile time by the <i>Klojang JDBC</i>
+ * annotation processor. The processor generates a class named after the annotated
+ * class, with {@value #SUFFIX} appended to it, whose static initializer registers the
+ * SQL files with this cache. The generated class is loaded the first time a SQL file is
+ * requested on behalf of the annotated class.
+ */
+public final class PrecompiledSQLCache {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PrecompiledSQLCache.class);
+
+  /**
+   * The suffix appended to the name of the annotated class to arrive at the name of the
+   * generated class. The annotation processor, which cannot access this package, has its
+   * own copy of this constant.
+   */
+  public static final String SUFFIX = "_SQLResources";
+
+  private record Key(Class<?> clazz, String path) { }
+
+  private static final Map<Key, String> files = new ConcurrentHashMap<>();
+  private static final Map<String, ParameterInfo> parsed = new ConcurrentHashMap<>();
+  private static final Map<Class<?>, Boolean> loaded = new ConcurrentHashMap<>();
+
+  private PrecompiledSQLCache() { throw new UnsupportedOperationException(); }
+
+  public static void put(Class<?> clazz, String path, String sql, ParameterInfo info) {
+    files.put(new Key(clazz, path), sql);
+    parsed.put(sql, info);
+  }
+
+  /**
+   * Returns the contents of the specified SQL file, or {@code null} if the file was not
+   * precompiled.
+   *
+   * @param clazz the class used to access the SQL file
+   * @param path the location of the SQL file
+   * @return the contents of the SQL file, or {@code null}
+   */
+  public static String getSQL(Class<?> clazz, String path) {
+    loaded.computeIfAbsent(clazz, PrecompiledSQLCache::load);
+    return files.get(new Key(clazz, path));
+  }
+
+  /**
+   * Returns the {@code ParameterInfo} for the specified SQL, or {@code null} if the SQL
+   * was not precompiled.
+   *
+   * @param sql the SQL
+   * @return the {@code ParameterInfo} for the specified SQL, or {@code null}
+   */
+  public static ParameterInfo getParameterInfo(String sql) {
+    return parsed.isEmpty() ? null : parsed.get(sql);
+  }
+
+  private static Boolean load(Class<?> clazz) {
+    try {
+      // Initializing the class makes it register its SQL files
+      Class.forName(clazz.getName() + SUFFIX, true, clazz.getClassLoader());
+      LOG.debug("Loaded precompiled SQL for {}", clazz.getName());
+      return Boolean.TRUE;
+    } catch (ClassNotFoundException e) {
+      return Boolean.FALSE;
+    }
+  }
+
+}
@@ -7,17 +7,31 @@ import org.klojang.check.aux.Result;
 import org.klojang.convert.Morph;
 import org.klojang.util.IOMethods;
 
+import javax.sql.DataSource;
 import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 //@Disabled
 public class BatchInsertTest {
@@ -134,4 +148,443 @@ public class BatchInsertTest {
     }
   }
 
-}
\ No newline at end of file
+  @Test
+  public void insertBatch01() {
+    BatchInsert<Person> insert = SQL
+          .insertBatch()
+          .of(Person.class)
+          .into("TEST")
+          .excluding("id")
+          .withChunkSize(2)
+          .withParameterizedValues(true)
+          .prepare(MY_CON.get());
+    insert.insertBatch(List.of(new Person("John"),
+          new Person("Mark"),
+          new Person(null),
+          new Person("O'Reilly"),
+          new Person("Edward")));
+    try (SQLQuery query = SQL.simple("SELECT NAME FROM TEST ORDER BY ID")
+          .session(MY_CON.get())
+          .prepareQuery()) {
+      assertEquals(Arrays.asList("John", "Mark", null, "O'Reilly", "Edward"),
+            query.firstColumn());
+    }
+  }
+
+  @Test
+  public void insertBatchAndGetIDs01() {
+    BatchInsert<Person> insert = SQL
+          .insertBatch()
+          .of(Person.class)
+          .into("TEST")
+          .excluding("id")
+          .withChunkSize(2)
+          .withParameterizedValues(true)
+          .prepare(MY_CON.get());
+    long[] ids = insert.insertBatchAndGetIDs(List.of(new Person("John"),
+          new Person("Mark"),
+          new Person("Edward")));
+    assertEquals(3, ids.length);
+    try (SQLQuery query = SQL.simple("SELECT ID FROM TEST")
+          .session(MY_CON.get())
+          .prepareQuery()) {
+      long[] actual = Morph.convert(query.firstColumn(), long[].class);
+      assertArrayEquals(ids, actual);
+    }
+  }
+
+  @Test
+  public void insertBatchAndGetIDs02() {
+    List<String> statements = new ArrayList<>();
+    BatchInsert<Person> insert = SQL
+          .insertBatch()
+          .of(Person.class)
+          .into("TEST")
+          .excluding("id")
+          .withChunkSize(2)
+          .withParameterizedValues(true)
+          .prepare(recording(MY_CON.get(), statements));
+    long[] ids0 = insert.insertBatchAndGetIDs(List.of(new Person("John"),
+          new Person("Mark")));
+    long[] ids1 = insert.insertBatchAndGetIDs(List.of(new Person("Edward"),
+          new Person("Jim"),
+          new Person("Mary"),
+          new Person("Anne")));
+    assertEquals(2, ids0.length);
+    assertEquals(4, ids1.length);
+    // The statement prepared by the first call is reused by the second call
+    assertEquals(1, statements.size());
+  }
+
+  @Test
+  public void insertBatchParameterized00() {
+    List<ChunkResult> results = new ArrayList<>();
+    BatchInsert<Person> insert = SQL
+          .insertBatch()
+          .of(Person.class)
+          .into("TEST")
+          .excluding("id")
+          .withParameterizedValues(true)
+          .withChunkListener(results::add)
+          .prepare(MY_CON.get());
+    insert.insertBatch(IntStream.range(0, 2500).mapToObj(i -> new Person("p" + i)).toList());
+    // Without a chunk size, chunks are kept below DEFAULT_MAX_PARAMETERS (one column)
+    List<Integer> sizes = results.stream().map(r -> r.toIndex() - r.fromIndex()).toList();
+    assertEquals(List.of(BatchInsert.DEFAULT_MAX_PARAMETERS, 500), sizes);
+  }
+
+  @Test
+  public void insertBatchParallel00() throws SQLException {
+    String sql = "CREATE TABLE PTEST(ID INT AUTO_INCREMENT, NAME VARCHAR(5))";
+    try (Statement stmt = MY_CON.get().createStatement()) {
+      stmt.executeUpdate(sql);
+    }
+    DataSource dataSource = dataSource();
+    Queue<ChunkResult> results = new ConcurrentLinkedQueue<>();
+    BatchInsert<Person> insert = SQL
+          .insertBatch()
+          .of(Person.class)
+          .into("PTEST")
+          .excluding("id")
+          .withChunkSize(2)
+          .withParallelism(3)
+          .withChunkListener(results::add)
+          .prepare(dataSource);
+    List<Person> persons = Stream.of("a", "b", "c", "d", "e", "f", "g")
+          .map(Person::new)
+          .toList();
+    insert.insertBatch(persons);
+    assertEquals(4, results.size());
+    assertTrue(results.stream().allMatch(ChunkResult::succeeded));
+    try (SQLQuery query = SQL.simple("SELECT COUNT(*) FROM PTEST")
+          .session(MY_CON.get())
+          .prepareQuery()) {
+      assertEquals(Result.of(7), query.getInt());
+    }
+  }
+
+  @Test
+  public void insertBatchParallel01() throws SQLException {
+    String sql = "CREATE TABLE PTEST(ID INT AUTO_INCREMENT, NAME VARCHAR(5))";
+    try (Statement stmt = MY_CON.get().createStatement()) {
+      stmt.executeUpdate(sql);
+    }
+    DataSource dataSource = dataSource();
+    Queue<ChunkResult> results = new ConcurrentLinkedQueue<>();
+    BatchInsert<Person> insert = SQL
+          .insertBatch()
+          .of(Person.class)
+          .into("PTEST")
+          .excluding("id")
+          .withChunkSize(2)
+          .withParallelism(2)
+          .withChunkListener(results::add)
+          .prepare(dataSource);
+    // Third chunk contains a name that is too long
+    List<Person> persons = Stream.of("a", "b", "c", "d", "too long", "f", "g")
+          .map(Person::new)
+          .toList();
+    DatabaseException e = assertThrows(DatabaseException.class,
+          () -> insert.insertBatch(persons));
+    assertEquals(1, e.getSuppressed().length);
+    List<ChunkResult> failed = results.stream().filter(r -> !r.succeeded()).toList();
+    assertEquals(1, failed.size());
+    assertEquals(2, failed.get(0).chunk());
+    assertEquals(4, failed.get(0).fromIndex());
+    try (SQLQuery query = SQL.simple("SELECT COUNT(*) FROM PTEST")
+          .session(MY_CON.get())
+          .prepareQuery()) {
+      assertEquals(Result.of(5), query.getInt());
+    }
+  }
+
+  @Test
+  public void insertBatchParallel02() throws SQLException {
+    String sql = "CREATE TABLE PTEST(ID INT AUTO_INCREMENT, NAME VARCHAR(5))";
+    try (Statement stmt = MY_CON.get().createStatement()) {
+      stmt.executeUpdate(sql);
+    }
+    BatchInsert<Person> insert = SQL
+          .insertBatch()
+          .of(Person.class)
+          .into("PTEST")
+          .excluding("id")
+          .withChunkSize(2)
+          .withParallelism(2)
+          .withChunkListener(result -> {
+            if (result.chunk() == 1) {
+              throw new IllegalStateException("listener failure");
+            }
+          })
+          .prepare(dataSource());
+    List<Person> persons = Stream.of("a", "b", "c", "d", "e", "f", "g")
+          .map(Person::new)
+          .toList();
+    DatabaseException e = assertThrows(DatabaseException.class,
+          () -> insert.insertBatch(persons));
+    assertEquals(1, e.getSuppressed().length);
+    assertEquals("listener failure", e.getSuppressed()[0].getCause().getMessage());
+  }
+
+  @Test
+  public void insertAll00() {
+    BatchInsert<Person> insert = SQL
+          .insertBatch()
+          .of(Person.class)
+          .into("TEST")
+          .excluding("id")
+          .withChunkSize(2)
+          .prepare(MY_CON.get());
+    long count = insert.insertAll(Stream.of("John", "Mark", "Edward", "Jill", "Joan")
+          .map(Person::new));
+    assertEquals(5L, count);
+    try (SQLQuery query = SQL.simple("SELECT NAME FROM TEST ORDER BY ID")
+          .session(MY_CON.get())
+          .prepareQuery()) {
+      assertEquals(List.of("John", "Mark", "Edward", "Jill", "Joan"), query.firstColumn());
+    }
+  }
+
+  @Test
+  public void insertAll01() {
+    BatchInsert<Person> insert = SQL
+          .insertBatch()
+          .of(Person.class)
+          .into("TEST")
+          .excluding("id")
+          .withParameterizedValues(true)
+          .prepare(MY_CON.get());
+    Iterator<Person> persons = IntStream.range(0, 2500)
+          .mapToObj(i -> new Person("p" + i))
+          .iterator();
+    assertEquals(2500L, insert.insertAll(persons));
+    try (SQLQuery query = SQL.simple("SELECT COUNT(*) FROM TEST")
+          .session(MY_CON.get())
+          .prepareQuery()) {
+      assertEquals(Result.of(2500), query.getInt());
+    }
+  }
+
+  @Test
+  public void insertAllParallel00() throws SQLException {
+    String sql = "CREATE TABLE PTEST(ID INT AUTO_INCREMENT, NAME VARCHAR(5))";
+    try (Statement stmt = MY_CON.get().createStatement()) {
+      stmt.executeUpdate(sql);
+    }
+    Queue<ChunkResult> results = new ConcurrentLinkedQueue<>();
+    BatchInsert<Person> insert = SQL
+          .insertBatch()
+          .of(Person.class)
+          .into("PTEST")
+          .excluding("id")
+          .withChunkSize(3)
+          .withParallelism(4)
+          .withChunkListener(results::add)
+          .prepare(dataSource());
+    long count = insert.insertAll(IntStream.range(0, 100)
+          .mapToObj(i -> new Person("p" + i)));
+    assertEquals(100L, count);
+    assertEquals(34, results.size());
+    try (SQLQuery query = SQL.simple("SELECT COUNT(*) FROM PTEST")
+          .session(MY_CON.get())
+          .prepareQuery()) {
+      assertEquals(Result.of(100), query.getInt());
+    }
+  }
+
+  @Test
+  public void insertAllPipelined00() {
+    BatchInsert<Person> insert = SQL
+          .insertBatch()
+          .of(Person.class)
+          .into("TEST")
+          .excluding("id")
+          .withChunkSize(7)
+          .withPipelineDepth(2)
+          .prepare(MY_CON.get());
+    long count = insert.insertAll(IntStream.range(0, 100)
+          .mapToObj(i -> new Person("p" + i)));
+    assertEquals(100L, count);
+    try (SQLQuery query = SQL.simple("SELECT NAME FROM TEST ORDER BY ID")
+          .session(MY_CON.get())
+          .prepareQuery()) {
+      List<String> names = query.firstColumn();
+      assertEquals(100, names.size());
+      assertEquals("p0", names.get(0));
+      assertEquals("p99", names.get(99));
+    }
+  }
+
+  @Test
+  public void insertBatchPipelined00() {
+    List<Person> persons = List.of(new Person("John"),
+          new Person("Mark"),
+          new Person("Edward"),
+          new Person("Jill"),
+          new Person("Joan"));
+    BatchInsert<Person> insert = SQL
+          .insertBatch()
+          .of(Person.class)
+          .into("TEST")
+          .excluding("id")
+          .withChunkSize(2)
+          .withParameterizedValues(true)
+          .withPipelineDepth(1)
+          .prepare(MY_CON.get());
+    long[] keys = insert.insertBatchAndGetIDs(persons);
+    assertEquals(5, keys.length);
+    try (SQLQuery query = SQL.simple("SELECT ID FROM TEST ORDER BY ID")
+          .session(MY_CON.get())
+          .prepareQuery()) {
+      long[] actual = Morph.convert(query.firstColumn(), long[].class);
+      assertArrayEquals(keys, actual);
+    }
+  }
+
+  @Test
+  public void insertBatchMaxStatementSize00() {
+    List<Person> persons = IntStream.range(0, 50)
+          .mapToObj(i -> new Person(i % 10 == 0 ? "x".repeat(200) : "p" + i))
+          .toList();
+    List<ChunkResult> results = new ArrayList<>();
+    List<String> statements = new ArrayList<>();
+    BatchInsert<Person> insert = SQL
+          .insertBatch()
+          .of(Person.class)
+          .into("TEST")
+          .excluding("id")
+          .withChunkSize(20)
+          .withMaxStatementSize(150)
+          .withChunkListener(results::add)
+          .prepare(recording(MY_CON.get(), statements));
+    long[] keys = insert.insertBatchAndGetIDs(persons);
+    assertEquals(50, keys.length);
+    assertEquals(3, results.size());
+    // Each chunk got split into several statements, none of which exceeds the maximum
+    // size, unless it contains just one (oversized) row
+    assertTrue(statements.size() > 3, String.valueOf(statements.size()));
+    for (String sql : statements) {
+      assertTrue(sql.length() <= 150 || !sql.contains("),("), sql);
+    }
+    try (SQLQuery query = SQL.simple("SELECT ID FROM TEST ORDER BY ID")
+          .session(MY_CON.get())
+          .prepareQuery()) {
+      long[] actual = Morph.convert(query.firstColumn(), long[].class);
+      assertArrayEquals(keys, actual);
+    }
+  }
+
+  @Test
+  public void insertAllAdaptive00() {
+    List<ChunkResult> results = new ArrayList<>();
+    BatchInsert<Person> insert = SQL
+          .insertBatch()
+          .of(Person.class)
+          .into("TEST")
+          .excluding("id")
+          .withChunkSize(64)
+          .withAdaptiveChunkSize(Duration.ofHours(1))
+          .withChunkListener(results::add)
+          .prepare(MY_CON.get());
+    long count = insert.insertAll(IntStream.range(0, 200)
+          .mapToObj(i -> new Person("p" + i)));
+    assertEquals(200L, count);
+    // Chunks will never be slow enough to make the chunk size shrink
+    assertTrue(results.stream().allMatch(r -> r.toIndex() - r.fromIndex() <= 64));
+    assertEquals(64, results.getFirst().toIndex());
+    try (SQLQuery query = SQL.simple("SELECT COUNT(*) FROM TEST")
+          .session(MY_CON.get())
+          .prepareQuery()) {
+      assertEquals(Result.of(200), query.getInt());
+    }
+  }
+
+  @Test
+  public void insertAllAdaptive01() {
+    List<ChunkResult> results = new ArrayList<>();
+    BatchInsert<Person> insert = SQL
+          .insertBatch()
+          .of(Person.class)
+          .into("TEST")
+          .excluding("id")
+          .withChunkSize(8)
+          .withAdaptiveChunkSize(Duration.ofNanos(1))
+          .withChunkListener(results::add)
+          .prepare(MY_CON.get());
+    long count = insert.insertAll(IntStream.range(0, 20)
+          .mapToObj(i -> new Person("p" + i)));
+    assertEquals(20L, count);
+    // Every chunk is too slow, so the chunk size halves until it reaches 1
+    List<Integer> sizes = results.stream().map(r -> r.toIndex() - r.fromIndex()).toList();
+    assertEquals(List.of(8, 4, 2, 1, 1, 1, 1, 1, 1), sizes);
+  }
+
+  @Test
+  public void insertAllAdaptive02() {
+    List<ChunkResult> results = new ArrayList<>();
+    BatchInsert<Person> insert = SQL
+          .insertBatch()
+          .of(Person.class)
+          .into("TEST")
+          .excluding("id")
+          .withAdaptiveChunkSize(Duration.ofHours(1))
+          .withChunkListener(results::add)
+          .prepare(MY_CON.get());
+    long count = insert.insertAll(IntStream.range(0, 3500)
+          .mapToObj(i -> new Person("p" + i)));
+    assertEquals(3500L, count);
+    // Every chunk is fast enough, so the chunk size doubles, starting at 1000
+    List<Integer> sizes = results.stream().map(r -> r.toIndex() - r.fromIndex()).toList();
+    assertEquals(List.of(1000, 2000, 500), sizes);
+  }
+
+  // A Connection that records the SQL executed through the Statement objects it creates,
+  // and the SQL of the PreparedStatement objects it creates (prefixed with "PREPARE ")
+  private static Connection recording(Connection con, List<String> sqls) {
+    return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+          new Class[] {Connection.class},
+          (proxy, method, args) -> {
+            Object result = invoke(method, con, args);
+            if (method.getName().equals("prepareStatement")) {
+              sqls.add("PREPARE " + args[0]);
+            }
+            if (method.getName().equals("createStatement")) {
+              Statement stmt = (Statement) result;
+              return Proxy.newProxyInstance(Statement.class.getClassLoader(),
+                    new Class[] {Statement.class},
+                    (p, m, a) -> {
+                      if (m.getName().startsWith("execute")
+                            && a != null
+                            && a[0] instanceof String sql) {
+                        sqls.add(sql);
+                      }
+                      return invoke(m, stmt, a);
+                    });
+            }
+            return result;
+          });
+  }
+
+  private static Object invoke(Method method, Object target, Object[] args)
+        throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  // A DataSource that creates a new connection to the test database for each call to
+  // getConnection()
+  private static DataSource dataSource() {
+    return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(),
+          new Class[] {DataSource.class},
+          (proxy, method, args) -> {
+            if (method.getName().equals("getConnection")) {
+              return DriverManager.getConnection("jdbc:h2:" + DB_DIR + "/test");
+            }
+            throw new UnsupportedOperationException(method.getName());
+          });
+  }
+
+}
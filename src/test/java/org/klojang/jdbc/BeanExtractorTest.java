@@ -2,6 +2,7 @@ package org.klojang.jdbc;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.klojang.jdbc.x.rs.BeanWriterFactory;
 import org.klojang.util.IOMethods;
 
 import java.io.IOException;
@@ -9,10 +10,18 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.klojang.jdbc.SQL.simpleQuery;
 import static org.klojang.jdbc.SQL.staticSQL;
 
@@ -43,6 +52,99 @@ public class BeanExtractorTest {
       assertEquals("Foo", emps.get(0).getEmpName());
     }
   }
+
+  @Test
+  public void test01() throws SQLException {
+    Connection con = MY_CON.get();
+    staticSQL("INSERT INTO EMPLOYEE(EMP_NAME)VALUES('Foo')").session(con).execute();
+    staticSQL("INSERT INTO EMPLOYEE(EMP_NAME)VALUES(NULL)").session(con).execute();
+    String sql = "SELECT EMP_ID, EMP_NAME FROM EMPLOYEE ORDER BY EMP_ID";
+    try (SQLQuery query = simpleQuery(con, sql)) {
+      List<Employee> emps = query.getExtractor(Employee.class).extractAll();
+      assertEquals(2, emps.size());
+      assertEquals(1, emps.get(0).getEmpId());
+      assertEquals("Foo", emps.get(0).getEmpName());
+      assertEquals(2, emps.get(1).getEmpId());
+      assertNull(emps.get(1).getEmpName());
+    }
+    // Make sure we got a hidden class, rather than the fallback that loops over the
+    // PropertyWriter instances
+    try (Statement stmt = con.createStatement(); ResultSet rs = stmt.executeQuery(sql)) {
+      Class<?> c = BeanWriterFactory.getBeanWriter(rs,
+            Employee.class,
+            SessionConfig.getDefaultConfig()).getClass();
+      assertTrue(c.isHidden());
+      assertTrue(c.getName().startsWith(BeanWriterFactory.class.getPackageName()
+            + ".BeanWriterTemplate"), c.getName());
+    }
+  }
+
+  @Test
+  public void reuse00()  {
+    Connection con = MY_CON.get();
+    staticSQL("INSERT INTO EMPLOYEE(EMP_NAME)VALUES('Foo')").session(con).execute();
+    staticSQL("INSERT INTO EMPLOYEE(EMP_NAME)VALUES('Bar')").session(con).execute();
+    String sql = "SELECT EMP_ID, EMP_NAME FROM EMPLOYEE ORDER BY EMP_ID";
+    Employee emp = new Employee();
+    List<String> names = new ArrayList<>();
+    try (SQLQuery query = simpleQuery(con, sql)) {
+      query.getReusingExtractor(Employee.class, emp).forEach(e -> {
+        assertSame(emp, e);
+        names.add(e.getEmpName());
+      });
+    }
+    assertEquals(List.of("Foo", "Bar"), names);
+    assertEquals(2, emp.getEmpId());
+  }
+
+  @Test
+  public void planCache00() throws SQLException {
+    Connection con = MY_CON.get();
+    staticSQL("INSERT INTO EMPLOYEE(EMP_NAME)VALUES('Foo')").session(con).execute();
+    BeanExtractorFactory<Employee> factory = new BeanExtractorFactory<>(Employee.class);
+    try (Statement stmt = con.createStatement()) {
+      try (ResultSet rs = stmt.executeQuery("SELECT EMP_NAME FROM EMPLOYEE")) {
+        Employee emp = factory.getExtractor(rs).extract().get();
+        assertEquals("Foo", emp.getEmpName());
+        assertEquals(0, emp.getEmpId());
+      }
+      try (ResultSet rs = stmt.executeQuery("SELECT EMP_ID FROM EMPLOYEE")) {
+        Employee emp = factory.getExtractor(rs).extract().get();
+        assertNull(emp.getEmpName());
+        assertEquals(1, emp.getEmpId());
+      }
+    }
+  }
+
+  @Test
+  public void reuse01() {
+    Connection con = MY_CON.get();
+    staticSQL("INSERT INTO EMPLOYEE(EMP_NAME)VALUES('Foo')").session(con).execute();
+    staticSQL("INSERT INTO EMPLOYEE(EMP_NAME)VALUES('Bar')").session(con).execute();
+    staticSQL("INSERT INTO EMPLOYEE(EMP_NAME)VALUES('Baz')").session(con).execute();
+    String sql = "SELECT EMP_ID, EMP_NAME FROM EMPLOYEE ORDER BY EMP_ID";
+    Employee emp = new Employee();
+    try (SQLQuery query = simpleQuery(con, sql)) {
+      Iterator<Employee> iter = query.getReusingExtractor(Employee.class, emp).iterator();
+      assertTrue(iter.hasNext());
+      Employee e = iter.next();
+      assertSame(emp, e);
+      assertEquals(1, e.getEmpId());
+      assertEquals("Foo", e.getEmpName());
+      assertTrue(iter.hasNext());
+      // hasNext() must not overwrite the current bean
+      assertTrue(iter.hasNext());
+      assertEquals("Foo", e.getEmpName());
+      e = iter.next();
+      assertEquals(2, e.getEmpId());
+      assertEquals("Bar", e.getEmpName());
+      e = iter.next();
+      assertEquals(3, e.getEmpId());
+      assertEquals("Baz", e.getEmpName());
+      assertFalse(iter.hasNext());
+      assertEquals("Baz", e.getEmpName());
+    }
+  }
   //@formatter:on
 
   //@formatter:off
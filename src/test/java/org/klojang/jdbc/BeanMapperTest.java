@@ -0,0 +1,65 @@
+package org.klojang.jdbc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.klojang.jdbc.SQL.simpleQuery;
+import static org.klojang.jdbc.SQL.staticSQL;
+
+public class BeanMapperTest {
+
+  private Connection con;
+
+  @BeforeEach
+  public void before() throws SQLException {
+    con = DriverManager.getConnection("jdbc:h2:mem:");
+    String sql = "CREATE TABLE EMPLOYEE(EMP_ID INT, EMP_NAME VARCHAR(32))";
+    staticSQL(sql).session(con).execute();
+    staticSQL("INSERT INTO EMPLOYEE VALUES(1, 'Foo')").session(con).execute();
+    staticSQL("INSERT INTO EMPLOYEE VALUES(2, NULL)").session(con).execute();
+  }
+
+  @AfterEach
+  public void after() throws SQLException {
+    con.close();
+  }
+
+  @Test
+  public void extract00() {
+    int calls = MappedEmployee_BeanMapper.CALLS.get();
+    String sql = "SELECT EMP_ID, EMP_NAME FROM EMPLOYEE ORDER BY EMP_ID";
+    try (SQLQuery query = simpleQuery(con, sql)) {
+      List<MappedEmployee> emps = query.getExtractor(MappedEmployee.class).extractAll();
+      assertEquals(2, emps.size());
+      assertEquals(Integer.valueOf(1), Integer.valueOf(emps.get(0).getEmpId()));
+      assertEquals("Foo", emps.get(0).getEmpName());
+      assertEquals(Integer.valueOf(2), Integer.valueOf(emps.get(1).getEmpId()));
+      assertNull(emps.get(1).getEmpName());
+    }
+    // newInstance() plus two setters for each of the two rows
+    assertEquals(Integer.valueOf(calls + 6),
+          Integer.valueOf(MappedEmployee_BeanMapper.CALLS.get()));
+  }
+
+  @Test
+  public void bind00() {
+    MappedEmployee emp = new MappedEmployee();
+    emp.setEmpId(1);
+    int calls = MappedEmployee_BeanMapper.CALLS.get();
+    String sql = "SELECT EMP_NAME FROM EMPLOYEE WHERE EMP_ID = :empId";
+    try (SQLQuery query = simpleQuery(con, sql)) {
+      assertEquals("Foo", query.bind(emp).getString().get());
+    }
+    // The getter is public, so it is called through a method handle, not the mapper
+    assertEquals(Integer.valueOf(calls),
+          Integer.valueOf(MappedEmployee_BeanMapper.CALLS.get()));
+  }
+
+}
@@ -0,0 +1,28 @@
+package org.klojang.jdbc;
+
+// Has a hand-written BeanMapper (MappedEmployee_BeanMapper) standing in for the one the
+// annotation processor would generate. The setters are package-private, so Klojang JDBC
+// can only reach them through the mapper. The getters are public, so the mapper is not
+// needed for them.
+public class MappedEmployee {
+
+  private int empId;
+  private String empName;
+
+  public int getEmpId() {
+    return empId;
+  }
+
+  void setEmpId(int empId) {
+    this.empId = empId;
+  }
+
+  public String getEmpName() {
+    return empName;
+  }
+
+  void setEmpName(String empName) {
+    this.empName = empName;
+  }
+
+}
@@ -0,0 +1,49 @@
+package org.klojang.jdbc;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Mimics the code generated by the annotation processor for MappedEmployee, but counts
+// how often it is called.
+final class MappedEmployee_BeanMapper extends BeanMapper<MappedEmployee> {
+
+  static final AtomicInteger CALLS = new AtomicInteger();
+
+  static {
+    register(new MappedEmployee_BeanMapper());
+  }
+
+  private MappedEmployee_BeanMapper() {
+    super(MappedEmployee.class,
+          new String[] {"empId", "empName"},
+          new Class<?>[] {int.class, String.class},
+          new String[] {"empId", "empName"},
+          new Class<?>[] {int.class, String.class});
+  }
+
+  @Override
+  public MappedEmployee newInstance() {
+    CALLS.incrementAndGet();
+    return new MappedEmployee();
+  }
+
+  @Override
+  public void set(MappedEmployee bean, int property, Object value) {
+    CALLS.incrementAndGet();
+    switch (property) {
+      case 0 -> bean.setEmpId((int) (value == null ? 0 : value));
+      case 1 -> bean.setEmpName((String) value);
+      default -> throw new IndexOutOfBoundsException(property);
+    }
+  }
+
+  @Override
+  public Object get(MappedEmployee bean, int property) {
+    CALLS.incrementAndGet();
+    return switch (property) {
+      case 0 -> bean.getEmpId();
+      case 1 -> bean.getEmpName();
+      default -> throw new IndexOutOfBoundsException(property);
+    };
+  }
+
+}
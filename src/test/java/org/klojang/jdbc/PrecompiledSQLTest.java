@@ -0,0 +1,37 @@
+package org.klojang.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The SQL files used in this test do not exist. They are "precompiled" by
+// PrecompiledSQLTest_SQLResources, which mimics the code generated by the annotation
+// processor.
+public class PrecompiledSQLTest {
+
+  @Test
+  public void simple00() throws SQLException {
+    SQL sql = SQL.simple(PrecompiledSQLTest.class, "/PrecompiledSQLTest.simple00.sql");
+    try (Connection con = DriverManager.getConnection("jdbc:h2:mem:")) {
+      try (SQLQuery query = sql.session(con).prepareQuery()) {
+        int i = query.bind("a", 3).bind("b", 4).getInt().get();
+        assertEquals(Integer.valueOf(10), Integer.valueOf(i));
+      }
+    }
+  }
+
+  @Test
+  public void staticSQL00() throws SQLException {
+    SQL sql = SQL.staticSQL(PrecompiledSQLTest.class, "PrecompiledSQLTest.staticSQL00.sql");
+    try (Connection con = DriverManager.getConnection("jdbc:h2:mem:")) {
+      try (SQLQuery query = sql.session(con).prepareQuery()) {
+        assertEquals("BOZO", query.getString().get());
+      }
+    }
+  }
+
+}
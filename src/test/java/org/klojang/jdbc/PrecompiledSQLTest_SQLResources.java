@@ -0,0 +1,24 @@
+package org.klojang.jdbc;
+
+// Mimics the code generated by the annotation processor for a class annotated with
+// @SQLResources({"/PrecompiledSQLTest.simple00.sql", "PrecompiledSQLTest.staticSQL00.sql"})
+final class PrecompiledSQLTest_SQLResources {
+
+  static {
+    PrecompiledSQL.register(PrecompiledSQLTest.class,
+          "/PrecompiledSQLTest.simple00.sql",
+          "SELECT CAST(:a AS INT) + CAST(:b AS INT) + CAST(:a AS INT)",
+          "SELECT CAST(? AS INT) + CAST(? AS INT) + CAST(? AS INT)",
+          new String[] {"a", "b"},
+          new int[][] {{1, 3}, {2}});
+    PrecompiledSQL.register(PrecompiledSQLTest.class,
+          "PrecompiledSQLTest.staticSQL00.sql",
+          "SELECT 'BOZO'",
+          "SELECT 'BOZO'",
+          new String[] {},
+          new int[][] {});
+  }
+
+  private PrecompiledSQLTest_SQLResources() { }
+
+}
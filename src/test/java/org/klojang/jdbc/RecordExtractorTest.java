@@ -16,6 +16,8 @@ import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 public class RecordExtractorTest {
   private static final String DB_DIR = System.getProperty("user.home") + "/klojang-jdbc-tests/RecordExtractorTest";
   private static final ThreadLocal<Connection> MY_CON = new ThreadLocal<>();
@@ -103,4 +105,26 @@ public class RecordExtractorTest {
     }
   }
 
+  @Test
+  public void test01() {
+    SQL.staticSQL("UPDATE PERSON SET BIRTH_DATE = NULL WHERE FIRST_NAME = 'Joe'")
+          .session(MY_CON.get())
+          .execute();
+    String sql = """
+          SELECT * FROM PERSON
+           WHERE LAST_NAME = :lastName
+           ORDER BY PERSON_ID
+          """;
+    try (SQLQuery query = SQL.simpleQuery(MY_CON.get(), sql)) {
+      List<Person> persons = query
+            .bind("lastName", "Peterson")
+            .getExtractor(Person.class)
+            .extractAll();
+      assertEquals(2, persons.size());
+      assertEquals(new Person(9, "Peter", "Peterson", LocalDate.of(1963, 5, 3)),
+            persons.get(0));
+      assertEquals(new Person(10, "Joe", "Peterson", null), persons.get(1));
+    }
+  }
+
 }
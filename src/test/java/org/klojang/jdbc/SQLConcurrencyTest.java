@@ -0,0 +1,143 @@
+package org.klojang.jdbc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.klojang.util.IOMethods;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Hammers a single, shared {@code SQL} instance from many threads, each with its own
+ * connection, to verify that the binders and extractor factories cached by the
+ * {@code SQL} instance can safely be shared by concurrent sessions.
+ */
+public class SQLConcurrencyTest {
+
+  private static final String DB_DIR = System.getProperty("user.home") + "/klojang-db-concurrency-test";
+  private static final String DB_URL = "jdbc:h2:" + DB_DIR + "/test";
+
+  private static final int THREADS = 16;
+  private static final int ITERATIONS = 200;
+
+  public static class Person {
+    int personId;
+    String lastName;
+
+    public int getPersonId() {
+      return personId;
+    }
+
+    public void setPersonId(int personId) {
+      this.personId = personId;
+    }
+
+    public String getLastName() {
+      return lastName;
+    }
+
+    public void setLastName(String lastName) {
+      this.lastName = lastName;
+    }
+  }
+
+  public record Filter(int personId) { }
+
+  private Connection con;
+
+  @BeforeEach
+  public void before() throws IOException, SQLException {
+    IOMethods.rm(DB_DIR);
+    Files.createDirectories(Path.of(DB_DIR));
+    con = DriverManager.getConnection(DB_URL);
+    try (Statement stmt = con.createStatement()) {
+      stmt.executeUpdate("CREATE TABLE PERSON(PERSON_ID INT, LAST_NAME VARCHAR(255))");
+      for (int i = 0; i < THREADS; ++i) {
+        stmt.executeUpdate("INSERT INTO PERSON VALUES(" + i + ",'Person" + i + "')");
+      }
+    }
+  }
+
+  @AfterEach
+  public void after() throws SQLException, IOException {
+    if (con != null) {
+      con.close();
+    }
+    IOMethods.rm(DB_DIR);
+  }
+
+  @Test
+  public void sharedSQL00() throws Exception {
+    // The default column-to-property mapper maps PERSON_ID to personId, etc.
+    SQL sql = SQL.simple("""
+          SELECT PERSON_ID, LAST_NAME
+            FROM PERSON
+           WHERE PERSON_ID = :personId
+          """);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Callable<Integer>> tasks = new ArrayList<>(THREADS);
+    for (int i = 0; i < THREADS; ++i) {
+      int id = i;
+      tasks.add(() -> {
+        int ok = 0;
+        try (Connection c = DriverManager.getConnection(DB_URL)) {
+          start.await();
+          for (int j = 0; j < ITERATIONS; ++j) {
+            try (SQLQuery query = sql.session(c).prepareQuery()) {
+              if (j % 3 == 0) {
+                Person p = new Person();
+                p.setPersonId(id);
+                Person result = query.bind(p).getExtractor(Person.class).extract().get();
+                assertEquals("Person" + id, result.getLastName());
+              } else if (j % 3 == 1) {
+                Map<String, Object> result = query.bind(new Filter(id))
+                      .getExtractor()
+                      .extract()
+                      .get();
+                assertEquals("Person" + id, result.get("lastName"));
+              } else {
+                Person result = query.bind("personId", id)
+                      .getExtractor(Person.class)
+                      .extract()
+                      .get();
+                assertEquals(Integer.valueOf(id), Integer.valueOf(result.getPersonId()));
+              }
+              ++ok;
+            }
+          }
+        }
+        return ok;
+      });
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      List<Future<Integer>> futures = new ArrayList<>(THREADS);
+      for (Callable<Integer> task : tasks) {
+        futures.add(executor.submit(task));
+      }
+      start.countDown();
+      for (Future<Integer> future : futures) {
+        assertEquals(Integer.valueOf(ITERATIONS), future.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+}
@@ -190,6 +190,26 @@ public class SQLInsertTest {
     }
   }
 
+  @Test
+  public void insertBatch01() {
+    Person p0 = new Person("John");
+    p0.setId(42);
+    Person p1 = new Person("Mark");
+    p1.setId(-7);
+    try (SQLInsert insert = SQL
+          .insert()
+          .of(Person.class)
+          .into("TEST")
+          .prepare(MY_CON.get())) {
+      insert.insertBatch(List.of(p0, p1));
+    }
+    try (SQLQuery query = SQL.simple("SELECT ID FROM TEST ORDER BY ID")
+          .session(MY_CON.get())
+          .prepareQuery()) {
+      assertEquals(List.of(-7, 42), query.firstColumn(Integer.class));
+    }
+  }
+
   @Test
   public void insertAllAndGetIDs00() {
     long[] ids;
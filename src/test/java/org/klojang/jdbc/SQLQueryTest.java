@@ -11,10 +11,16 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -218,4 +224,183 @@ public class SQLQueryTest {
       assertEquals(List.of("Bear", "Bester"), l);
     }
   }
+
+  @Test
+  public void stream00() throws Exception {
+    String sql = "SELECT * FROM PERSON WHERE LAST_NAME = :lastName";
+    SQLQuery query = SQL.simple(sql).session(MY_CON.get()).prepareQuery();
+    ResultSet rs = query.bind("lastName", "Smith").withFetchSize(2).getResultSet();
+    try (Stream<Person> persons = query.stream(Person.class)) {
+      List<String> names = persons.map(Person::getFirstName).sorted().toList();
+      assertEquals(List.of("Carlos", "John", "Mary"), names);
+    }
+    assertTrue(rs.isClosed());
+  }
+
+  @Test
+  public void stream01() {
+    String sql = "SELECT * FROM PERSON WHERE LAST_NAME = 'Nobody'";
+    try (Stream<Person> persons = SQL.simpleQuery(MY_CON.get(), sql).stream(Person.class)) {
+      assertEquals(0, persons.count());
+    }
+  }
+
+  @Test
+  public void streamMaps00() {
+    String sql = "SELECT FIRST_NAME FROM PERSON ORDER BY FIRST_NAME";
+    try (Stream<Map<String, Object>> rows = SQL.simpleQuery(MY_CON.get(), sql)
+          .withFetchSize(3)
+          .streamMaps()) {
+      List<Object> names = rows.limit(2).map(row -> row.get("firstName")).toList();
+      assertEquals(List.of("Carlos", "Dieter"), names);
+    }
+  }
+
+  @Test
+  public void forEach00() {
+    String sql = "SELECT * FROM PERSON WHERE LAST_NAME = 'Peterson'";
+    List<String> names = new ArrayList<>();
+    try (SQLQuery query = SQL.simpleQuery(MY_CON.get(), sql)) {
+      query.forEach(Person.class, p -> names.add(p.getFirstName()));
+    }
+    Collections.sort(names);
+    assertEquals(List.of("Joe", "Peter"), names);
+  }
+
+  @Test
+  public void collect00() {
+    String sql = "SELECT * FROM PERSON";
+    Map<String, Long> counts;
+    try (SQLQuery query = SQL.simpleQuery(MY_CON.get(), sql)) {
+      counts = query.collect(Person.class,
+            Collectors.groupingBy(Person::getLastName, Collectors.counting()));
+    }
+    assertEquals(7, counts.size());
+    assertEquals(Long.valueOf(3), counts.get("Smith"));
+    assertEquals(Long.valueOf(2), counts.get("Peterson"));
+  }
+
+  @Test
+  public void toColumns00() {
+    String sql = "SELECT * FROM PERSON ORDER BY ID";
+    try (SQLQuery query = SQL.simpleQuery(MY_CON.get(), sql)) {
+      ColumnarResult result = query.toColumns();
+      assertEquals(10, result.size());
+      assertEquals(List.of("id", "firstName", "lastName", "birthDate"),
+            result.getColumnNames());
+      assertEquals(int[].class, result.getArrayType("id"));
+      assertEquals(10, result.getInts("id").length);
+      assertEquals("John", result.getObjects("firstName")[0]);
+      assertEquals("Peterson", result.getObjects("lastName")[9]);
+      assertTrue(result.getNulls("id").isEmpty());
+      assertThrows(IllegalArgumentException.class, () -> result.getLongs("id"));
+      assertThrows(IllegalArgumentException.class, () -> result.getInts("foo"));
+    }
+  }
+
+  @Test
+  public void toColumns01() {
+    String sql = """
+          SELECT NULLIF(ID, 1) AS ID, CAST(ID AS DOUBLE) AS SCORE
+            FROM PERSON
+           ORDER BY SCORE
+          """;
+    try (SQLQuery query = SQL.simpleQuery(MY_CON.get(), sql)) {
+      ColumnarResult result = query.toColumns(4);
+      assertEquals(10, result.size());
+      assertTrue(result.isNull("id", 0));
+      assertFalse(result.isNull("id", 1));
+      assertEquals(1, result.getNulls("id").cardinality());
+      assertEquals(0, result.getInts("id")[0]);
+      assertEquals(2, result.getInts("id")[1]);
+      assertEquals(10D, result.getDoubles("score")[9]);
+    }
+  }
+
+  @Test
+  public void toColumns02() {
+    SessionConfig config = new SessionConfig() {
+      @Override
+      public CustomReader getCustomReader(Class<?> beanType,
+            String propertyName,
+            Class<?> propertyType,
+            int sqlType) {
+        return switch (propertyName) {
+          case "id" -> (rs, idx) -> "#" + rs.getInt(idx);
+          case "firstName" -> (rs, idx) -> rs.getString(idx).toUpperCase();
+          default -> null;
+        };
+      }
+    };
+    String sql = "SELECT ID, FIRST_NAME FROM PERSON ORDER BY ID";
+    try (SQLQuery query = SQL.simpleQuery(MY_CON.get(), config, sql)) {
+      ColumnarResult result = query.toColumns();
+      // An INTEGER column with a custom reader is not stored in an int[] array
+      assertEquals(Object[].class, result.getArrayType("id"));
+      assertEquals("#1", result.getObjects("id")[0]);
+      assertEquals("JOHN", result.getObjects("firstName")[0]);
+    }
+  }
+
+  @Test
+  public void templateCache00() throws Exception {
+    String sql = """
+          SELECT LAST_NAME FROM PERSON
+           ORDER BY ~%orderBy%
+           LIMIT :limit
+          """;
+    SessionConfig config = SessionConfig.getDefaultConfig().withStatementCache(10);
+    SQL template = SQL.template(config, sql);
+    Statement stmt0, stmt1, stmt2;
+    try (SQLQuery query = template.session(MY_CON.get())
+          .setOrderBy("LAST_NAME")
+          .prepareQuery()) {
+      stmt0 = query.bind("limit", 2).getResultSet().getStatement();
+      assertEquals(List.of("Bear", "Bester"), query.firstColumn());
+    }
+    try (SQLQuery query = template.session(MY_CON.get())
+          .setOrderBy("LAST_NAME", true)
+          .prepareQuery()) {
+      stmt1 = query.bind("limit", 2).getResultSet().getStatement();
+      assertEquals(List.of("de Santos", "Washington"), query.firstColumn());
+    }
+    try (SQLQuery query = template.session(MY_CON.get())
+          .setOrderBy("LAST_NAME")
+          .prepareQuery()) {
+      stmt2 = query.bind("limit", 2).getResultSet().getStatement();
+      assertEquals(List.of("Bear", "Bester"), query.firstColumn());
+    }
+    assertNotSame(stmt0, stmt1);
+    assertSame(stmt0, stmt2);
+  }
+
+  @Test
+  public void paramHandle00() {
+    String sql = """
+          SELECT FIRST_NAME FROM PERSON
+           WHERE LAST_NAME = :lastName
+             AND (ID = :id OR :id = 0)
+           ORDER BY ID
+          """;
+    try (SQLQuery query = SQL.simple(sql).session(MY_CON.get()).prepareQuery()) {
+      ParamHandle lastName = query.param("lastName");
+      ParamHandle id = query.param("id");
+      assertSame(id, query.param("id"));
+      lastName.setString("Smith");
+      id.setLong(0);
+      assertEquals(List.of("John", "Mary", "Carlos"), query.firstColumn());
+      query.reset();
+      lastName.setString("Peterson");
+      id.setInt(10);
+      assertEquals(List.of("Joe"), query.firstColumn());
+      query.reset();
+      // handles and bind() may be mixed
+      lastName.setString("Bear");
+      query.bind("id", 0);
+      assertEquals(List.of("Mary"), query.firstColumn());
+      query.reset();
+      lastName.setString("Smith");
+      assertThrows(DatabaseException.class, query::firstColumn);
+    }
+  }
 }
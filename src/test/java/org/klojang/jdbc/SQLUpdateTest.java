@@ -9,7 +9,11 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.*;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static java.sql.Statement.RETURN_GENERATED_KEYS;
@@ -153,4 +157,32 @@ public class SQLUpdateTest {
 //      assertTrue(person.getId() != Integer.MIN_VALUE);
 //    }
 //  }
-}
\ No newline at end of file
+
+  @Test
+  public void test06() throws SQLException {
+    String s = "INSERT INTO TEST(NAME) VALUES(:name)";
+    Map<String, Object> nullName = new HashMap<>();
+    nullName.put("name", null);
+    List<Map<String, Object>> maps = List.of(
+          Collections.singletonMap("name", "John"),
+          Collections.singletonMap("name", "Mark"),
+          nullName,
+          new HashMap<>(Map.of("name", 42)),
+          Collections.singletonMap("name", "Paul"));
+    SQL sql = SQL.simple(s);
+    for (Map<String, Object> map : maps) {
+      try (SQLInsert insert = sql.session(MY_CON.get()).prepareInsert()) {
+        insert.bind(map).execute();
+      }
+    }
+    String q = "SELECT NAME FROM TEST ORDER BY ID";
+    List<String> names = new ArrayList<>();
+    try (Statement stmt = MY_CON.get().createStatement();
+          ResultSet rs = stmt.executeQuery(q)) {
+      while (rs.next()) {
+        names.add(rs.getString(1));
+      }
+    }
+    assertEquals(Arrays.asList("John", "Mark", null, "42", "Paul"), names);
+  }
+}
@@ -3,7 +3,10 @@ package org.klojang.jdbc;
 import org.junit.jupiter.api.Test;
 import org.klojang.templates.NameMapper;
 
+import java.sql.Types;
 import java.time.DayOfWeek;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.klojang.templates.name.SnakeCaseToCamelCase.snakeCaseToCamelCase;
@@ -29,4 +32,60 @@ public class SessionConfigTest {
     SessionConfig config = SessionConfig.getDefaultConfig().withEnumsSavedAsStrings();
     assertTrue(config.saveEnumAsString(null, null, DayOfWeek.class));
   }
+
+  @Test
+  public void memoize00() {
+    AtomicInteger calls = new AtomicInteger();
+    SessionConfig config = new SessionConfig() {
+      public Integer getSQLType(Class<?> beanType, String prop, Class<?> propType) {
+        calls.incrementAndGet();
+        return prop.equals("id") ? Types.BIGINT : null;
+      }
+    }.memoize();
+    assertSame(config, config.memoize());
+    assertEquals(Integer.valueOf(Types.BIGINT), config.getSQLType(Map.class, "id", Long.class));
+    assertEquals(Integer.valueOf(Types.BIGINT), config.getSQLType(Map.class, "id", Long.class));
+    assertNull(config.getSQLType(Map.class, "name", String.class));
+    assertNull(config.getSQLType(Map.class, "name", String.class));
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  public void memoize01() {
+    SessionConfig config = SessionConfig.getDefaultConfig();
+    SessionConfig config1 = config.withEnumsSavedAsStrings();
+    assertSame(config1, config.withEnumsSavedAsStrings());
+    assertSame(config1.withStatementCache(8), config1.withStatementCache(8));
+    assertNotSame(config1.withStatementCache(8), config1.withStatementCache(9));
+    // Like the default withers, memoized withers start from scratch
+    SessionConfig config2 = config1.withStatementCache(8);
+    assertFalse(config2.saveEnumAsString(null, null, DayOfWeek.class));
+    assertEquals(8, config2.getStatementCacheSize());
+  }
+
+  @Test
+  public void memoize02() {
+    AtomicInteger calls = new AtomicInteger();
+    SessionConfig config = new SessionConfig() {
+      public SessionConfig withStatementCache(int maxSize) {
+        calls.incrementAndGet();
+        return new SessionConfig() {
+          public int getStatementCacheSize() { return maxSize; }
+
+          public boolean saveEnumAsString(Class<?> beanType,
+                String enumProperty,
+                Class<? extends Enum<?>> enumType) {
+            return true;
+          }
+        };
+      }
+    }.memoize();
+    // The memoized wither calls the overridden wither, once
+    SessionConfig config1 = config.withStatementCache(8);
+    assertSame(config1, config.withStatementCache(8));
+    assertEquals(1, calls.get());
+    assertEquals(8, config1.getStatementCacheSize());
+    assertTrue(config1.saveEnumAsString(null, null, DayOfWeek.class));
+    assertSame(config1, config1.memoize());
+  }
 }
@@ -11,10 +11,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class SimpleSQLSessionTest {
   private static final String DB_DIR = System.getProperty("user.home") + "/h2.SimpleSQLSessionTest";
@@ -118,4 +119,61 @@ public class SimpleSQLSessionTest {
           .prepareUpdate()
           .execute();
   }
+
+  @Test
+  public void preload00() {
+    String[] files = {
+          "/SimpleSQLSessionTest.staticSQL02.create.sql",
+          "/SimpleSQLSessionTest.staticSQL02.insert.sql",
+          "/SimpleSQLSessionTest.staticSQL02.select.sql",
+          "/SimpleSQLSessionTest.staticSQL02.drop.sql"
+    };
+    SQL.preload(SQL::simple, getClass(), files);
+    for (String file : files) {
+      assertSame(SQL.simple(getClass(), file), SQL.simple(getClass(), file));
+    }
+    // Different kinds of SQL objects created from the same file must not be mixed up
+    assertNotSame(SQL.simple(getClass(), files[0]), SQL.staticSQL(getClass(), files[0]));
+  }
+
+  @Test
+  public void statementCache00() throws SQLException {
+    Connection con = MY_CON.get();
+    SessionConfig config = SessionConfig.getDefaultConfig().withStatementCache(10);
+    SQL sql = SQL.simple(config, "SELECT * FROM PERSON WHERE ID = :id");
+    PreparedStatement ps0, ps1;
+    try (SQLQuery query = sql.session(con).prepareQuery()) {
+      ps0 = (PreparedStatement) query.bind("id", 1).getResultSet().getStatement();
+    }
+    assertFalse(ps0.isClosed());
+    try (SQLQuery query = sql.session(con).prepareQuery()) {
+      ps1 = (PreparedStatement) query.bind("id", 2).getResultSet().getStatement();
+    }
+    assertSame(ps0, ps1);
+  }
+
+  @Test
+  public void statementCache01() throws SQLException {
+    Connection con = MY_CON.get();
+    SessionConfig config = SessionConfig.getDefaultConfig().withStatementCache(10);
+    SQL sql = SQL.simple(config, "SELECT * FROM PERSON WHERE ID = :id");
+    try (SQLQuery query0 = sql.session(con).prepareQuery()) {
+      try (SQLQuery query1 = sql.session(con).prepareQuery()) {
+        var ps0 = query0.bind("id", 1).getResultSet().getStatement();
+        var ps1 = query1.bind("id", 1).getResultSet().getStatement();
+        assertNotSame(ps0, ps1);
+      }
+    }
+  }
+
+  @Test
+  public void statementCache02() throws SQLException {
+    Connection con = MY_CON.get();
+    SQL sql = SQL.simple("SELECT * FROM PERSON WHERE ID = :id");
+    PreparedStatement ps;
+    try (SQLQuery query = sql.session(con).prepareQuery()) {
+      ps = (PreparedStatement) query.bind("id", 1).getResultSet().getStatement();
+    }
+    assertTrue(ps.isClosed());
+  }
 }
@@ -0,0 +1,76 @@
+package org.klojang.jdbc.x;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StatementCacheTest {
+
+  @Test
+  public void release00() throws Exception {
+    AtomicBoolean closed = new AtomicBoolean();
+    Connection con = connection(closed);
+    PreparedStatement ps0 = StatementCache.get(con, "SELECT 1", false, 2);
+    assertTrue(StatementCache.release(ps0));
+    PreparedStatement ps1 = StatementCache.get(con, "SELECT 1", false, 2);
+    assertSame(ps0, ps1);
+    // Not handed out twice
+    PreparedStatement ps2 = StatementCache.get(con, "SELECT 1", false, 2);
+    assertNotSame(ps1, ps2);
+    assertTrue(StatementCache.release(ps1));
+    assertTrue(StatementCache.release(ps2));
+    assertFalse(StatementCache.release(ps2));
+    closed.set(true);
+  }
+
+  @Test
+  public void release01() throws Exception {
+    AtomicBoolean closed = new AtomicBoolean();
+    Connection con = connection(closed);
+    PreparedStatement ps = StatementCache.get(con, "SELECT 1", false, 2);
+    int size = StatementCache.size();
+    closed.set(true);
+    // Releasing a statement of a closed connection drops the connection's cache
+    assertTrue(StatementCache.release(ps));
+    assertEquals(size - 1, StatementCache.size());
+  }
+
+  private static Connection connection(AtomicBoolean closed) {
+    return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+          new Class[] {Connection.class},
+          (proxy, method, args) -> switch (method.getName()) {
+            case "isClosed" -> closed.get();
+            case "prepareStatement" -> statement(closed);
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            default -> null;
+          });
+  }
+
+  private static PreparedStatement statement(AtomicBoolean conClosed) {
+    AtomicBoolean closed = new AtomicBoolean();
+    return (PreparedStatement) Proxy.newProxyInstance(
+          PreparedStatement.class.getClassLoader(),
+          new Class[] {PreparedStatement.class},
+          (proxy, method, args) -> switch (method.getName()) {
+            case "isClosed" -> closed.get() || conClosed.get();
+            case "close" -> {
+              closed.set(true);
+              yield null;
+            }
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            default -> null;
+          });
+  }
+
+}
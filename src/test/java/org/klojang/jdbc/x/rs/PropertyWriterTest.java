@@ -0,0 +1,85 @@
+package org.klojang.jdbc.x.rs;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.klojang.jdbc.SessionConfig;
+import org.klojang.util.IOMethods;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PropertyWriterTest {
+  private static final String DB_DIR = System.getProperty("user.home") + "/PropertyWriterTest";
+  private static final ThreadLocal<Connection> MY_CON = new ThreadLocal<>();
+
+  //@formatter:off
+  public static class Measurement {
+    int id; long total; double score; boolean valid; Integer boxed; String label;
+    public void setId(int id) { this.id = id; }
+    public void setTotal(long total) { this.total = total; }
+    public void setScore(double score) { this.score = score; }
+    public void setValid(boolean valid) { this.valid = valid; }
+    public void setBoxed(Integer boxed) { this.boxed = boxed; }
+    public void setLabel(String label) { this.label = label; }
+  }
+  //@formatter:on
+
+  @BeforeEach
+  public void before() throws IOException, SQLException {
+    IOMethods.rm(DB_DIR);
+    Files.createDirectories(Path.of(DB_DIR));
+    Connection con = DriverManager.getConnection("jdbc:h2:" + DB_DIR + "/test");
+    MY_CON.set(con);
+  }
+
+  @Test
+  public void primitives00() throws Throwable {
+    String sql = """
+          SELECT CAST(7 AS INT) AS ID,
+                 CAST(123456789012 AS BIGINT) AS TOTAL,
+                 CAST(2.5 AS DOUBLE) AS SCORE,
+                 TRUE AS VALID,
+                 CAST(9 AS INT) AS BOXED,
+                 'foo' AS LABEL
+          """;
+    try (Statement stmt = MY_CON.get().createStatement()) {
+      ResultSet rs = stmt.executeQuery(sql);
+      assertTrue(rs.next());
+      PropertyWriter[] writers = PropertyWriter.createWriters(rs,
+            Measurement.class,
+            SessionConfig.getDefaultConfig());
+      assertEquals(6, writers.length);
+      // primitiveWriter() returns null rather than failing, so check the int and long
+      // setters really bypass boxing
+      assertTrue(writers[0].isUnboxed());
+      assertTrue(writers[1].isUnboxed());
+      assertFalse(writers[4].isUnboxed());
+      assertFalse(writers[5].isUnboxed());
+      Measurement m = PropertyWriter.writeAll(rs, Measurement::new, writers);
+      assertEquals(7, m.id);
+      assertEquals(123456789012L, m.total);
+      assertEquals(2.5, m.score);
+      assertTrue(m.valid);
+      assertEquals(Integer.valueOf(9), m.boxed);
+      assertEquals("foo", m.label);
+    }
+  }
+
+  @AfterEach
+  public void after() throws SQLException, IOException {
+    if (MY_CON.get() != null) {
+      MY_CON.get().close();
+    }
+    IOMethods.rm(DB_DIR);
+  }
+
+}
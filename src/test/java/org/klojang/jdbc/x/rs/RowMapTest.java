@@ -0,0 +1,83 @@
+package org.klojang.jdbc.x.rs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RowMapTest {
+
+  private static RowMap newRow() {
+    RowMap.Keys keys = new RowMap.Keys(new String[] {"id", "name", "score"});
+    return new RowMap(keys, new Object[] {1, "foo", null});
+  }
+
+  @Test
+  public void get00() {
+    RowMap row = newRow();
+    assertEquals(3, row.size());
+    assertEquals(1, row.get("id"));
+    assertEquals("foo", row.get("name"));
+    assertNull(row.get("score"));
+    assertTrue(row.containsKey("score"));
+    assertFalse(row.containsKey("bar"));
+    assertEquals(Arrays.asList("id", "name", "score"), new ArrayList<>(row.keySet()));
+  }
+
+  @Test
+  public void put00() {
+    RowMap row = newRow();
+    assertEquals("foo", row.put("name", "bar"));
+    assertNull(row.put("extra", 42));
+    assertEquals(4, row.size());
+    assertEquals("bar", row.get("name"));
+    assertEquals(42, row.get("extra"));
+    assertEquals(List.of("id", "name", "score", "extra"), new ArrayList<>(row.keySet()));
+  }
+
+  @Test
+  public void remove00() {
+    RowMap row = newRow();
+    row.put("extra", 42);
+    assertEquals("foo", row.remove("name"));
+    assertNull(row.remove("name"));
+    assertEquals(42, row.remove("extra"));
+    assertEquals(2, row.size());
+    assertFalse(row.containsKey("name"));
+    assertEquals(List.of("id", "score"), new ArrayList<>(row.keySet()));
+    assertNull(row.put("name", "foo"));
+    assertEquals(3, row.size());
+  }
+
+  @Test
+  public void iteratorRemove00() {
+    RowMap row = newRow();
+    row.put("extra", 42);
+    row.entrySet().removeIf(e -> e.getKey().equals("id") || e.getKey().equals("extra"));
+    assertEquals(Set.of("name", "score"), row.keySet());
+    assertEquals(2, row.size());
+  }
+
+  @Test
+  public void equals00() {
+    RowMap row = newRow();
+    Map<String, Object> map = new HashMap<>();
+    map.put("id", 1);
+    map.put("name", "foo");
+    map.put("score", null);
+    assertEquals(map, row);
+    assertEquals(row, map);
+    assertEquals(map.hashCode(), row.hashCode());
+  }
+
+  @Test
+  public void clear00() {
+    RowMap row = newRow();
+    row.put("extra", 42);
+    row.clear();
+    assertTrue(row.isEmpty());
+    assertFalse(row.entrySet().iterator().hasNext());
+  }
+
+}